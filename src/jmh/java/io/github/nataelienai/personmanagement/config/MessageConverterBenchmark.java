@@ -0,0 +1,108 @@
+package io.github.nataelienai.personmanagement.config;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import io.github.nataelienai.personmanagement.dto.AddressResponse;
+import io.github.nataelienai.personmanagement.dto.PersonPageResponse;
+import io.github.nataelienai.personmanagement.dto.PersonResponse;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageConverterBenchmark {
+  private static final int PAGE_SIZE = 20;
+  private static final int ADDRESSES_PER_PERSON = 3;
+
+  @Param({ "json", "cbor", "smile", "protobuf" })
+  String format;
+
+  HttpMessageConverter<Object> converter;
+
+  MediaType mediaType;
+
+  PersonPageResponse page;
+
+  byte[] encodedPage;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setUp() throws IOException {
+    Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+    switch (format) {
+      case "json":
+        converter = (HttpMessageConverter<Object>) (HttpMessageConverter<?>) new MappingJackson2HttpMessageConverter(
+            builder.build());
+        break;
+      case "cbor":
+        converter = (HttpMessageConverter<Object>) (HttpMessageConverter<?>) MessageConverterConfig
+            .createCborHttpMessageConverter(builder);
+        break;
+      case "smile":
+        converter = (HttpMessageConverter<Object>) (HttpMessageConverter<?>) MessageConverterConfig
+            .createSmileHttpMessageConverter(builder);
+        break;
+      case "protobuf":
+        converter = MessageConverterConfig.createProtobufHttpMessageConverter(builder);
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown format: " + format);
+    }
+    mediaType = converter.getSupportedMediaTypes().get(0);
+    page = createPage();
+    encodedPage = encode();
+
+    System.out.printf("%n%s payload for %d people: %d bytes%n", format, PAGE_SIZE, encodedPage.length);
+  }
+
+  @Benchmark
+  public byte[] encode() throws IOException {
+    MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+    converter.write(page, mediaType, outputMessage);
+    return outputMessage.getBodyAsBytes();
+  }
+
+  @Benchmark
+  public Object decode() throws IOException {
+    return converter.read(PersonPageResponse.class, new MockHttpInputMessage(encodedPage));
+  }
+
+  private static PersonPageResponse createPage() {
+    List<PersonResponse> people = new ArrayList<>(PAGE_SIZE);
+
+    for (long id = 1; id <= PAGE_SIZE; id++) {
+      List<AddressResponse> addresses = new ArrayList<>(ADDRESSES_PER_PERSON);
+      for (int i = 0; i < ADDRESSES_PER_PERSON; i++) {
+        long addressId = id * ADDRESSES_PER_PERSON + i;
+        addresses.add(new AddressResponse(addressId, String.format("%05d-%03d", 10000 + id, i), "São Paulo",
+            "Rua " + addressId, (int) addressId, i == 0));
+      }
+      people.add(new PersonResponse(id, "Person " + id, "2000-01-" + String.format("%02d", id), addresses));
+    }
+
+    return new PersonPageResponse(people, "MjA");
+  }
+}
@@ -0,0 +1,68 @@
+package io.github.nataelienai.personmanagement.dto.mapper;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.nataelienai.personmanagement.dto.AddressResponse;
+import io.github.nataelienai.personmanagement.dto.PersonResponse;
+import io.github.nataelienai.personmanagement.entity.Address;
+import io.github.nataelienai.personmanagement.entity.Person;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+  private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+  @Param({ "20", "100" })
+  int size;
+
+  List<Person> people;
+
+  List<Address> addresses;
+
+  @Setup
+  public void setUp() {
+    people = new ArrayList<>(size);
+    addresses = new ArrayList<>(size);
+
+    for (long id = 1; id <= size; id++) {
+      Person person = new Person("Person " + id, LocalDate.of(2000, 1, 1).plusDays(id));
+      person.setId(id);
+      Address mainAddress = new Address(id * 2, "12325-123", 12325123, "City", "Street", (int) id, true, person);
+      Address otherAddress = new Address(id * 2 + 1, "12325-456", 12325456, "City", "Avenue", (int) id, false, person);
+      person.getAddresses().add(mainAddress);
+      person.getAddresses().add(otherAddress);
+      people.add(person);
+      addresses.add(mainAddress);
+    }
+  }
+
+  @Benchmark
+  public List<PersonResponse> personMapToResponseList() {
+    return PersonMapper.mapToResponseList(people, DATE_FORMATTER);
+  }
+
+  @Benchmark
+  public List<AddressResponse> addressMapToResponseList() {
+    return AddressMapper.mapToResponseList(addresses);
+  }
+}
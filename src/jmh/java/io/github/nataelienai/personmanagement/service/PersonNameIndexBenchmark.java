@@ -0,0 +1,60 @@
+package io.github.nataelienai.personmanagement.service;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.nataelienai.personmanagement.dto.PersonSuggestionResponse;
+
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@State(Scope.Benchmark)
+public class PersonNameIndexBenchmark {
+  private static final int NAMES_COUNT = 1_000_000;
+  private static final int LIMIT = 10;
+  private static final String[] FIRST_NAMES = {
+      "Ana", "João", "Maria", "José", "Francisco", "Antônio", "Carlos", "Paulo", "Pedro", "Lucas",
+      "Luiz", "Marcos", "Luís", "Gabriel", "Rafael", "Daniel", "Marcelo", "Bruno", "Eduardo", "Felipe",
+      "Juliana", "Márcia", "Fernanda", "Patrícia", "Aline", "Sandra", "Camila", "Amanda", "Bruna", "Jéssica" };
+  private static final String[] LAST_NAMES = {
+      "Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves", "Pereira", "Lima", "Gomes",
+      "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes", "Soares", "Fernandes", "Vieira", "Barbosa",
+      "Rocha", "Dias", "Nascimento", "Andrade", "Moreira", "Nunes", "Marques", "Machado", "Mendes", "Freitas" };
+
+  @Param({ "m", "ma", "mar", "silva", "ria san", "xyz" })
+  String query;
+
+  PersonNameIndex personNameIndex;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    personNameIndex = new PersonNameIndex();
+    for (int i = 0; i < NAMES_COUNT; i++) {
+      String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+          + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " "
+          + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + i;
+      personNameIndex.put(i + 1L, name);
+    }
+  }
+
+  @Benchmark
+  public List<PersonSuggestionResponse> search() {
+    return personNameIndex.search(query, LIMIT);
+  }
+}
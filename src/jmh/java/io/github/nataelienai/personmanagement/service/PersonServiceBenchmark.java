@@ -0,0 +1,120 @@
+package io.github.nataelienai.personmanagement.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import io.github.nataelienai.personmanagement.PersonManagementApplication;
+import io.github.nataelienai.personmanagement.dto.PersonFields;
+import io.github.nataelienai.personmanagement.dto.PersonPageResponse;
+import io.github.nataelienai.personmanagement.dto.PersonSummaryPageResponse;
+import io.github.nataelienai.personmanagement.dto.VersionedPersonResult;
+import io.github.nataelienai.personmanagement.entity.Address;
+import io.github.nataelienai.personmanagement.entity.Person;
+import io.github.nataelienai.personmanagement.repository.AddressRepository;
+import io.github.nataelienai.personmanagement.repository.PersonRepository;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersonServiceBenchmark {
+  private static final int PEOPLE_COUNT = 1000;
+  private static final int PAGE_SIZE = 20;
+
+  @State(Scope.Benchmark)
+  public static class ServiceState {
+    @Param({ "none", "caffeine" })
+    String cacheType;
+
+    ConfigurableApplicationContext context;
+
+    PersonService personService;
+
+    List<Long> personIds;
+
+    int nextIndex;
+
+    @Setup
+    public void setUp() {
+      context = new SpringApplicationBuilder(PersonManagementApplication.class)
+          .web(WebApplicationType.NONE)
+          .run(
+              "--spring.cache.type=" + cacheType,
+              "--spring.main.banner-mode=off",
+              "--logging.level.root=warn");
+      personService = context.getBean(PersonService.class);
+      personIds = seed(context.getBean(PersonRepository.class), context.getBean(AddressRepository.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+      context.close();
+    }
+
+    Long nextPersonId() {
+      Long id = personIds.get(nextIndex);
+      nextIndex = (nextIndex + 1) % personIds.size();
+      return id;
+    }
+  }
+
+  @Benchmark
+  public LocalDate parseDateOfBirth() {
+    return PersonService.parseDateOfBirth("2001-01-01");
+  }
+
+  @Benchmark
+  public PersonPageResponse findAll(ServiceState state) {
+    return state.personService.findAll(null, PAGE_SIZE, PersonFields.ALL);
+  }
+
+  @Benchmark
+  public PersonSummaryPageResponse findAllSummaries(ServiceState state) {
+    return state.personService.findAllSummaries(null, PAGE_SIZE);
+  }
+
+  @Benchmark
+  public VersionedPersonResult findById(ServiceState state) {
+    return state.personService.findById(state.nextPersonId(), PersonFields.ALL);
+  }
+
+  private static List<Long> seed(PersonRepository personRepository, AddressRepository addressRepository) {
+    List<Person> people = new ArrayList<>(PEOPLE_COUNT);
+    for (int i = 0; i < PEOPLE_COUNT; i++) {
+      people.add(new Person("Person " + i, LocalDate.of(1970, 1, 1).plusDays(i)));
+    }
+    personRepository.saveAll(people);
+
+    List<Address> addresses = new ArrayList<>(PEOPLE_COUNT * 2);
+    List<Long> ids = new ArrayList<>(PEOPLE_COUNT);
+    for (Person person : people) {
+      Address mainAddress = new Address("12325-123", "City", "Street", 10, true, person);
+      addresses.add(mainAddress);
+      addresses.add(new Address("12325-456", "City", "Avenue", 20, false, person));
+      person.setMainAddress(mainAddress);
+      ids.add(person.getId());
+    }
+    addressRepository.saveAll(addresses);
+    personRepository.saveAll(people);
+    return ids;
+  }
+}
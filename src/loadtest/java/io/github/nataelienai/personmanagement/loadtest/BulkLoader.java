@@ -0,0 +1,257 @@
+package io.github.nataelienai.personmanagement.loadtest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+final class BulkLoader {
+  private static final int JDBC_BATCH_SIZE = 5_000;
+  private static final int COMMIT_INTERVAL = 50_000;
+  private static final int SEQUENCE_INCREMENT = 50;
+
+  private static final Map<String, String> SECONDARY_INDEXES = Map.of(
+      "idx_person_normalized_name", "person (normalized_name)",
+      "idx_person_date_of_birth", "person (date_of_birth)",
+      "idx_address_city", "address (city)",
+      "idx_address_cep_number", "address (cep_number)");
+
+  private static final String INSERT_PERSON = "insert into person"
+      + " (id, name, normalized_name, date_of_birth, version, main_address_id) values (?, ?, ?, ?, 0, ?)";
+  private static final String INSERT_ADDRESS = "insert into address"
+      + " (id, cep, cep_number, city, street, number, main, person_id) values (?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_PEOPLE_FROM_CSV = "insert into person"
+      + " (id, name, normalized_name, date_of_birth, version, main_address_id)"
+      + " select cast(id as bigint), name, normalized_name, cast(date_of_birth as date), 0,"
+      + " cast(nullif(main_address_id, '') as bigint)"
+      + " from csvread('%s', 'ID,NAME,NORMALIZED_NAME,DATE_OF_BIRTH,MAIN_ADDRESS_ID', 'charset=UTF-8')";
+  private static final String INSERT_ADDRESSES_FROM_CSV = "insert into address"
+      + " (id, cep, cep_number, city, street, number, main, person_id)"
+      + " select cast(id as bigint), cep, cast(cep_number as int), city, street, cast(number as int),"
+      + " cast(main as boolean), cast(person_id as bigint)"
+      + " from csvread('%s', 'ID,CEP,CEP_NUMBER,CITY,STREET,NUMBER,MAIN,PERSON_ID', 'charset=UTF-8')";
+
+  enum Method {
+    CSV("csv"),
+    JDBC_BATCH("jdbc-batch");
+
+    private final String label;
+
+    Method(String label) {
+      this.label = label;
+    }
+
+    static Method fromLabel(String label) {
+      for (Method method : values()) {
+        if (method.label.equals(label)) {
+          return method;
+        }
+      }
+      throw new IllegalArgumentException("Unknown load method " + label + ", expected csv or jdbc-batch");
+    }
+  }
+
+  private final DataSource dataSource;
+
+  BulkLoader(DataSource dataSource) {
+    this.dataSource = dataSource;
+  }
+
+  Result load(DatasetGenerator generator, long peopleCount, Method method) throws Exception {
+    try (Connection connection = dataSource.getConnection()) {
+      if (count(connection, "person") > 0 || count(connection, "address") > 0) {
+        throw new IllegalStateException("The bulk loader only seeds an empty database");
+      }
+
+      long start = System.nanoTime();
+      for (String index : SECONDARY_INDEXES.keySet()) {
+        execute(connection, "drop index " + index);
+      }
+      execute(connection, "set referential_integrity false");
+      try {
+        if (method == Method.CSV) {
+          loadFromCsv(connection, generator, peopleCount);
+        } else {
+          loadWithJdbcBatches(connection, generator, peopleCount);
+        }
+      } finally {
+        execute(connection, "set referential_integrity true");
+        for (Map.Entry<String, String> index : SECONDARY_INDEXES.entrySet()) {
+          execute(connection, "create index " + index.getKey() + " on " + index.getValue());
+        }
+      }
+
+      long addressCount = peopleCount * generator.addressesPerPerson();
+      restartSequence(connection, "person_sequence", peopleCount);
+      restartSequence(connection, "address_sequence", addressCount);
+      return new Result(method, peopleCount, addressCount, Duration.ofNanos(System.nanoTime() - start));
+    }
+  }
+
+  private static void loadWithJdbcBatches(Connection connection, DatasetGenerator generator, long peopleCount)
+      throws Exception {
+    boolean autoCommit = connection.getAutoCommit();
+    connection.setAutoCommit(false);
+    try (PreparedStatement insertPerson = connection.prepareStatement(INSERT_PERSON);
+        PreparedStatement insertAddress = connection.prepareStatement(INSERT_ADDRESS)) {
+      DatasetGenerator.RowSink sink = new DatasetGenerator.RowSink() {
+        @Override
+        public void person(long id, String name, String normalizedName, LocalDate dateOfBirth, Long mainAddressId)
+            throws SQLException {
+          insertPerson.setLong(1, id);
+          insertPerson.setString(2, name);
+          insertPerson.setString(3, normalizedName);
+          insertPerson.setDate(4, Date.valueOf(dateOfBirth));
+          if (mainAddressId == null) {
+            insertPerson.setNull(5, Types.BIGINT);
+          } else {
+            insertPerson.setLong(5, mainAddressId);
+          }
+          insertPerson.addBatch();
+        }
+
+        @Override
+        public void address(long id, String cep, int cepNumber, String city, String street, int number,
+            boolean main, long personId) throws SQLException {
+          insertAddress.setLong(1, id);
+          insertAddress.setString(2, cep);
+          insertAddress.setInt(3, cepNumber);
+          insertAddress.setString(4, city);
+          insertAddress.setString(5, street);
+          insertAddress.setInt(6, number);
+          insertAddress.setBoolean(7, main);
+          insertAddress.setLong(8, personId);
+          insertAddress.addBatch();
+        }
+      };
+
+      for (long i = 0; i < peopleCount; i++) {
+        generator.generate(i, 1, 1, sink);
+        if ((i + 1) % JDBC_BATCH_SIZE == 0 || i + 1 == peopleCount) {
+          insertPerson.executeBatch();
+          insertAddress.executeBatch();
+        }
+        if ((i + 1) % COMMIT_INTERVAL == 0) {
+          connection.commit();
+        }
+      }
+      connection.commit();
+    } finally {
+      connection.setAutoCommit(autoCommit);
+    }
+  }
+
+  private static void loadFromCsv(Connection connection, DatasetGenerator generator, long peopleCount)
+      throws Exception {
+    Path directory = Files.createTempDirectory("person-management-dataset");
+    Path peopleFile = directory.resolve("person.csv");
+    Path addressesFile = directory.resolve("address.csv");
+    try {
+      try (BufferedWriter people = Files.newBufferedWriter(peopleFile, StandardCharsets.UTF_8);
+          BufferedWriter addresses = Files.newBufferedWriter(addressesFile, StandardCharsets.UTF_8)) {
+        DatasetGenerator.RowSink sink = new DatasetGenerator.RowSink() {
+          @Override
+          public void person(long id, String name, String normalizedName, LocalDate dateOfBirth,
+              Long mainAddressId) throws IOException {
+            people.append(Long.toString(id)).append(',')
+                .append(name).append(',')
+                .append(normalizedName).append(',')
+                .append(dateOfBirth.toString()).append(',')
+                .append(mainAddressId == null ? "" : mainAddressId.toString()).append('\n');
+          }
+
+          @Override
+          public void address(long id, String cep, int cepNumber, String city, String street, int number,
+              boolean main, long personId) throws IOException {
+            addresses.append(Long.toString(id)).append(',')
+                .append(cep).append(',')
+                .append(Integer.toString(cepNumber)).append(',')
+                .append(city).append(',')
+                .append(street).append(',')
+                .append(Integer.toString(number)).append(',')
+                .append(Boolean.toString(main)).append(',')
+                .append(Long.toString(personId)).append('\n');
+          }
+        };
+        for (long i = 0; i < peopleCount; i++) {
+          generator.generate(i, 1, 1, sink);
+        }
+      }
+
+      execute(connection, String.format(INSERT_PEOPLE_FROM_CSV, escape(peopleFile)));
+      execute(connection, String.format(INSERT_ADDRESSES_FROM_CSV, escape(addressesFile)));
+    } finally {
+      Files.deleteIfExists(peopleFile);
+      Files.deleteIfExists(addressesFile);
+      Files.deleteIfExists(directory);
+    }
+  }
+
+  private static void restartSequence(Connection connection, String sequence, long lastAssignedId)
+      throws SQLException {
+    execute(connection, "alter sequence " + sequence + " restart with " + (lastAssignedId + SEQUENCE_INCREMENT));
+  }
+
+  private static long count(Connection connection, String table) throws SQLException {
+    try (Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery("select count(*) from " + table)) {
+      resultSet.next();
+      return resultSet.getLong(1);
+    }
+  }
+
+  private static void execute(Connection connection, String sql) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(sql);
+    }
+  }
+
+  private static String escape(Path file) {
+    return file.toAbsolutePath().toString().replace("'", "''");
+  }
+
+  static final class Result {
+    private final Method method;
+    private final long people;
+    private final long addresses;
+    private final Duration elapsed;
+
+    private Result(Method method, long people, long addresses, Duration elapsed) {
+      this.method = method;
+      this.people = people;
+      this.addresses = addresses;
+      this.elapsed = elapsed;
+    }
+
+    long people() {
+      return people;
+    }
+
+    long addresses() {
+      return addresses;
+    }
+
+    double rowsPerSecond() {
+      return (people + addresses) / (elapsed.toNanos() / 1e9);
+    }
+
+    @Override
+    public String toString() {
+      return String.format("Loaded %d people and %d addresses with %s in %.1fs (%.0f rows/s)",
+          people, addresses, method.label, elapsed.toNanos() / 1e9, rowsPerSecond());
+    }
+  }
+}
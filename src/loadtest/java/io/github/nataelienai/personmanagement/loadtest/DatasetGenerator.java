@@ -0,0 +1,115 @@
+package io.github.nataelienai.personmanagement.loadtest;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+import io.github.nataelienai.personmanagement.entity.Address;
+import io.github.nataelienai.personmanagement.entity.Person;
+
+final class DatasetGenerator {
+  private static final String[] FIRST_NAMES = {
+      "Ana", "Beatriz", "Bruna", "Camila", "Carolina", "Fernanda", "Gabriela", "Helena", "Isabela", "Juliana",
+      "Larissa", "Leticia", "Luana", "Mariana", "Natalia", "Patricia", "Rafaela", "Sofia", "Tatiane", "Vitoria",
+      "Andre", "Bruno", "Carlos", "Daniel", "Eduardo", "Felipe", "Gabriel", "Gustavo", "Henrique", "Joao",
+      "Jose", "Lucas", "Marcelo", "Mateus", "Miguel", "Pedro", "Rafael", "Rodrigo", "Thiago", "Vinicius"
+  };
+  private static final String[] LAST_NAMES = {
+      "Almeida", "Alves", "Araujo", "Barbosa", "Barros", "Cardoso", "Carvalho", "Castro", "Costa", "Dias",
+      "Fernandes", "Ferreira", "Gomes", "Lima", "Lopes", "Martins", "Melo", "Mendes", "Monteiro", "Moreira",
+      "Nascimento", "Nunes", "Oliveira", "Pereira", "Pinto", "Ramos", "Reis", "Ribeiro", "Rocha", "Rodrigues",
+      "Santos", "Silva", "Soares", "Sousa", "Teixeira", "Vieira"
+  };
+  private static final String[] STREET_TYPES = { "Rua", "Rua", "Rua", "Avenida", "Travessa", "Alameda" };
+  private static final String[] STREET_NAMES = {
+      "das Flores", "Sete de Setembro", "XV de Novembro", "Tiradentes", "Santos Dumont", "Dom Pedro II",
+      "Brasil", "Paulista", "Getulio Vargas", "Marechal Deodoro", "Rio Branco", "Sao Joao", "Bela Vista",
+      "dos Andradas", "Boa Vista", "da Paz", "Principal", "Joaquim Nabuco", "Castro Alves", "Machado de Assis"
+  };
+  private static final City[] CITIES = {
+      new City("Sao Paulo", 1000, 5999),
+      new City("Campinas", 13000, 13139),
+      new City("Rio de Janeiro", 20000, 23799),
+      new City("Belo Horizonte", 30000, 31999),
+      new City("Salvador", 40000, 42599),
+      new City("Recife", 50000, 52999),
+      new City("Fortaleza", 60000, 61599),
+      new City("Brasilia", 70000, 72799),
+      new City("Goiania", 74000, 74899),
+      new City("Manaus", 69000, 69099),
+      new City("Belem", 66000, 66999),
+      new City("Curitiba", 80000, 82999),
+      new City("Florianopolis", 88000, 88099),
+      new City("Porto Alegre", 90000, 91999)
+  };
+  private static final LocalDate OLDEST_DATE_OF_BIRTH = LocalDate.of(1940, 1, 1);
+  private static final int DATE_OF_BIRTH_RANGE_IN_DAYS = 25_000;
+  private static final long SEED_MIXER = 0x9E3779B97F4A7C15L;
+
+  private final long seed;
+  private final int addressesPerPerson;
+
+  DatasetGenerator(long seed, int addressesPerPerson) {
+    this.seed = seed;
+    this.addressesPerPerson = addressesPerPerson;
+  }
+
+  int addressesPerPerson() {
+    return addressesPerPerson;
+  }
+
+  void generate(long personIndex, long firstPersonId, long firstAddressId, RowSink sink) throws Exception {
+    SplittableRandom random = new SplittableRandom(seed + personIndex * SEED_MIXER);
+    long personId = firstPersonId + personIndex;
+    long firstAddressIdOfPerson = firstAddressId + personIndex * addressesPerPerson;
+
+    String name = pick(FIRST_NAMES, random) + " " + pick(LAST_NAMES, random)
+        + (random.nextInt(3) == 0 ? " " + pick(LAST_NAMES, random) : "");
+    LocalDate dateOfBirth = OLDEST_DATE_OF_BIRTH.plusDays(random.nextInt(DATE_OF_BIRTH_RANGE_IN_DAYS));
+    sink.person(personId, name, Person.normalizeName(name), dateOfBirth,
+        addressesPerPerson > 0 ? firstAddressIdOfPerson : null);
+
+    for (int i = 0; i < addressesPerPerson; i++) {
+      City city = pick(CITIES, random);
+      String cep = formatCep(random.nextInt(city.firstCepPrefix, city.lastCepPrefix + 1), random.nextInt(1000));
+      String street = pick(STREET_TYPES, random) + " " + pick(STREET_NAMES, random);
+      sink.address(firstAddressIdOfPerson + i, cep, Address.toCepNumber(cep), city.name, street,
+          random.nextInt(1, 5000), i == 0, personId);
+    }
+  }
+
+  private static String formatCep(int prefix, int suffix) {
+    char[] cep = new char[9];
+    for (int i = 4; i >= 0; i--, prefix /= 10) {
+      cep[i] = (char) ('0' + prefix % 10);
+    }
+    cep[5] = '-';
+    for (int i = 8; i >= 6; i--, suffix /= 10) {
+      cep[i] = (char) ('0' + suffix % 10);
+    }
+    return new String(cep);
+  }
+
+  private static <T> T pick(T[] values, SplittableRandom random) {
+    return values[random.nextInt(values.length)];
+  }
+
+  interface RowSink {
+    void person(long id, String name, String normalizedName, LocalDate dateOfBirth, Long mainAddressId)
+        throws Exception;
+
+    void address(long id, String cep, int cepNumber, String city, String street, int number, boolean main,
+        long personId) throws Exception;
+  }
+
+  private static final class City {
+    private final String name;
+    private final int firstCepPrefix;
+    private final int lastCepPrefix;
+
+    private City(String name, int firstCepPrefix, int lastCepPrefix) {
+      this.name = name;
+      this.firstCepPrefix = firstCepPrefix;
+      this.lastCepPrefix = lastCepPrefix;
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package io.github.nataelienai.personmanagement.loadtest;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+public class LoadTest {
+  private static final DateTimeFormatter RUN_NAME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+  private LoadTest() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    List<String> arguments = new ArrayList<>(Arrays.asList(args));
+    String command = arguments.isEmpty() || arguments.get(0).startsWith("--") ? "run" : arguments.remove(0);
+
+    switch (command) {
+      case "run":
+        run(arguments);
+        break;
+      case "seed":
+        seed(arguments);
+        break;
+      case "compare":
+        compare(arguments);
+        break;
+      case "virtual-threads":
+        VirtualThreadLoadTest.main(arguments.toArray(String[]::new));
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown command " + command + ", expected run, seed, compare or virtual-threads");
+    }
+  }
+
+  private static void run(List<String> arguments) throws Exception {
+    Map<String, String> defaults = new LinkedHashMap<>();
+    defaults.put("workload", "mixed");
+    defaults.put("rate", "200");
+    defaults.put("warmup", "10s");
+    defaults.put("duration", "30s");
+    defaults.put("people", "1000");
+    defaults.put("addresses-per-person", "2");
+    defaults.put("seed", "42");
+    defaults.put("load-method", "jdbc-batch");
+    defaults.put("max-in-flight", "1000");
+    defaults.put("output-dir", "loadtest-results");
+    defaults.put("name", LocalDateTime.now().format(RUN_NAME_FORMATTER));
+    LoadTestOptions options = LoadTestOptions.parse(arguments, defaults);
+
+    Workload workload = Workload.parse(options.get("workload"));
+    Duration duration = options.getDuration("duration");
+    Path directory = Paths.get(options.get("output-dir"), options.get("name"));
+
+    try (LoadTestApplication application = LoadTestApplication.start(options.applicationArguments())) {
+      SeedData seedData = application.seed(options.getLong("people"), options.getInt("addresses-per-person"),
+          options.getLong("seed"), BulkLoader.Method.fromLabel(options.get("load-method")));
+      System.out.printf("Seeded %d people, running %s at %s requests/s for %s after a %s warmup%n",
+          seedData.size(), workload.describe(), options.get("rate"), options.get("duration"), options.get("warmup"));
+
+      OpenLoadGenerator generator = new OpenLoadGenerator(
+          HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build(),
+          application.baseUrl(), seedData, workload, options.getInt("max-in-flight"));
+      Duration warmup = options.getDuration("warmup");
+      long startMillis = System.currentTimeMillis() + warmup.toMillis();
+      List<OperationStats> stats = new ArrayList<>(
+          generator.run(options.getInt("rate"), warmup, duration, options.getLong("seed")).values());
+      stats.add(OperationStats.total(new ArrayList<>(stats)));
+
+      Properties run = new Properties();
+      options.asMap().forEach(run::setProperty);
+      run.setProperty("workload", workload.describe());
+      run.setProperty("application-arguments", String.join(" ", options.applicationArguments()));
+      run.setProperty("java.version", System.getProperty("java.version"));
+      run.setProperty("available-processors", String.valueOf(Runtime.getRuntime().availableProcessors()));
+
+      LoadTestReport.write(directory, run, stats, startMillis, duration);
+      LoadTestReport.print(System.out, stats, duration);
+      System.out.printf("Reports written to %s%n", directory.toAbsolutePath());
+    }
+  }
+
+  private static void seed(List<String> arguments) throws Exception {
+    Map<String, String> defaults = new LinkedHashMap<>();
+    defaults.put("people", "1000000");
+    defaults.put("addresses-per-person", "3");
+    defaults.put("seed", "42");
+    defaults.put("load-method", "jdbc-batch");
+    LoadTestOptions options = LoadTestOptions.parse(arguments, defaults);
+
+    for (String method : options.get("load-method").split(",")) {
+      try (LoadTestApplication application = LoadTestApplication.start(options.applicationArguments())) {
+        application.seed(options.getLong("people"), options.getInt("addresses-per-person"), options.getLong("seed"),
+            BulkLoader.Method.fromLabel(method.trim()));
+      }
+    }
+  }
+
+  private static void compare(List<String> arguments) throws Exception {
+    Map<String, String> defaults = new LinkedHashMap<>();
+    defaults.put("output-dir", "loadtest-results");
+    LoadTestOptions options = LoadTestOptions.parse(arguments, defaults);
+    if (options.positional().size() != 2) {
+      throw new IllegalArgumentException("Usage: compare <baseline> <candidate>");
+    }
+
+    LoadTestComparison.compare(System.out,
+        resolveRun(options.get("output-dir"), options.positional().get(0)),
+        resolveRun(options.get("output-dir"), options.positional().get(1)));
+  }
+
+  private static Path resolveRun(String outputDirectory, String run) {
+    Path path = Paths.get(run);
+    return Files.isDirectory(path) ? path : Paths.get(outputDirectory, run);
+  }
+}
@@ -0,0 +1,92 @@
+package io.github.nataelienai.personmanagement.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.github.nataelienai.personmanagement.PersonManagementApplication;
+import io.github.nataelienai.personmanagement.service.PersonAutocompleteService;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+final class LoadTestApplication implements AutoCloseable {
+  private final ConfigurableApplicationContext context;
+
+  private LoadTestApplication(ConfigurableApplicationContext context) {
+    this.context = context;
+  }
+
+  static LoadTestApplication start(List<String> applicationArguments) {
+    List<String> args = new ArrayList<>(List.of(
+        "--server.port=0",
+        "--person-management.reactive-server.enabled=false",
+        "--spring.main.banner-mode=off",
+        "--logging.level.root=warn"));
+    args.addAll(applicationArguments);
+
+    return new LoadTestApplication(new SpringApplicationBuilder(
+        PersonManagementApplication.class, SimulatedDatabaseLatencyConfig.class)
+        .run(args.toArray(String[]::new)));
+  }
+
+  String baseUrl() {
+    return "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+  }
+
+  SeedData seed(long peopleCount, int addressesPerPerson, long seed, BulkLoader.Method method) throws Exception {
+    DataSource dataSource = context.getBean(DataSource.class);
+    if (dataSource.isWrapperFor(HikariDataSource.class)) {
+      dataSource = dataSource.unwrap(HikariDataSource.class);
+    }
+
+    BulkLoader.Result result = new BulkLoader(dataSource)
+        .load(new DatasetGenerator(seed, addressesPerPerson), peopleCount, method);
+    System.out.println(result);
+    context.getBean(PersonAutocompleteService.class).load();
+    return new SeedData(peopleCount, addressesPerPerson);
+  }
+
+  @Override
+  public void close() {
+    context.close();
+  }
+
+  @Configuration
+  static class SimulatedDatabaseLatencyConfig {
+
+    @Bean
+    static BeanPostProcessor simulatedDatabaseLatencyBeanPostProcessor(Environment environment) {
+      long latencyMillis = DurationStyle.detectAndParse(environment.getProperty("loadtest.db-latency", "0ms")).toMillis();
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          if (bean instanceof DataSource && latencyMillis > 0) {
+            return ProxyDataSourceBuilder.create((DataSource) bean)
+                .beforeQuery((executionInfo, queryInfos) -> sleep(latencyMillis))
+                .build();
+          }
+          return bean;
+        }
+      };
+    }
+
+    private static void sleep(long millis) {
+      try {
+        Thread.sleep(millis);
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
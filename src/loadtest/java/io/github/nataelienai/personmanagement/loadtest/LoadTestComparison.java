@@ -0,0 +1,84 @@
+package io.github.nataelienai.personmanagement.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import org.HdrHistogram.Histogram;
+
+final class LoadTestComparison {
+  private static final Set<String> RUN_SETTINGS = Set.of("workload", "rate", "warmup", "duration", "people", "seed");
+
+  private LoadTestComparison() {
+  }
+
+  static void compare(PrintStream out, Path baseline, Path candidate) throws IOException {
+    Properties baselineRun = LoadTestReport.readRun(baseline);
+    Properties candidateRun = LoadTestReport.readRun(candidate);
+    out.printf("baseline:  %s (%s)%n", baseline, LoadTestReport.describe(baselineRun));
+    out.printf("candidate: %s (%s)%n", candidate, LoadTestReport.describe(candidateRun));
+    for (String setting : RUN_SETTINGS) {
+      String baselineValue = baselineRun.getProperty(setting);
+      String candidateValue = candidateRun.getProperty(setting);
+      if (baselineValue != null && !baselineValue.equals(candidateValue)) {
+        out.printf("warning: %s differs between runs (%s vs %s)%n", setting, baselineValue, candidateValue);
+      }
+    }
+    out.println();
+
+    Map<String, Map<String, String>> baselineSummary = LoadTestReport.readSummary(baseline);
+    Map<String, Map<String, String>> candidateSummary = LoadTestReport.readSummary(candidate);
+    Map<String, Histogram> baselineHistograms = LoadTestReport.readHistograms(baseline);
+    Map<String, Histogram> candidateHistograms = LoadTestReport.readHistograms(candidate);
+
+    Set<String> operations = new LinkedHashSet<>(baselineSummary.keySet());
+    operations.addAll(candidateSummary.keySet());
+
+    out.printf("%-16s %-12s %14s %14s %10s%n", "operation", "metric", "baseline", "candidate", "change");
+    for (String operation : operations) {
+      Map<String, String> baselineRow = baselineSummary.get(operation);
+      Map<String, String> candidateRow = candidateSummary.get(operation);
+      if (baselineRow == null || candidateRow == null) {
+        out.printf("%-16s only present in the %s run%n", operation, baselineRow == null ? "candidate" : "baseline");
+        continue;
+      }
+
+      printRow(out, operation, "throughput", "/s",
+          Double.parseDouble(baselineRow.get("throughput_per_second")),
+          Double.parseDouble(candidateRow.get("throughput_per_second")));
+      printRow(out, operation, "errors", "",
+          Double.parseDouble(baselineRow.get("errors")),
+          Double.parseDouble(candidateRow.get("errors")));
+      printRow(out, operation, "dropped", "",
+          Double.parseDouble(baselineRow.get("dropped")),
+          Double.parseDouble(candidateRow.get("dropped")));
+
+      Histogram baselineLatencies = baselineHistograms.get(operation);
+      Histogram candidateLatencies = candidateHistograms.get(operation);
+      for (double percentile : LoadTestReport.PERCENTILES) {
+        printRow(out, operation, "p" + formatPercentile(percentile), "ms",
+            LoadTestReport.toMillis(baselineLatencies.getValueAtPercentile(percentile)),
+            LoadTestReport.toMillis(candidateLatencies.getValueAtPercentile(percentile)));
+      }
+      printRow(out, operation, "max", "ms",
+          LoadTestReport.toMillis(baselineLatencies.getMaxValue()),
+          LoadTestReport.toMillis(candidateLatencies.getMaxValue()));
+    }
+  }
+
+  private static void printRow(PrintStream out, String operation, String metric, String unit,
+      double baseline, double candidate) {
+    String change = baseline == 0
+        ? (candidate == 0 ? "0.0%" : "n/a")
+        : String.format("%+.1f%%", (candidate - baseline) / baseline * 100);
+    out.printf("%-16s %-12s %12.2f%-2s %12.2f%-2s %10s%n", operation, metric, baseline, unit, candidate, unit, change);
+  }
+
+  private static String formatPercentile(double percentile) {
+    return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+  }
+}
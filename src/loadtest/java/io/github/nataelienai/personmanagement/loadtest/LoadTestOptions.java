@@ -0,0 +1,74 @@
+package io.github.nataelienai.personmanagement.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.convert.DurationStyle;
+
+final class LoadTestOptions {
+  private static final String APPLICATION_PREFIX = "app.";
+
+  private final Map<String, String> values;
+  private final List<String> positional;
+  private final List<String> applicationArguments;
+
+  private LoadTestOptions(Map<String, String> values, List<String> positional, List<String> applicationArguments) {
+    this.values = values;
+    this.positional = positional;
+    this.applicationArguments = applicationArguments;
+  }
+
+  static LoadTestOptions parse(List<String> args, Map<String, String> defaults) {
+    Map<String, String> values = new LinkedHashMap<>(defaults);
+    List<String> positional = new ArrayList<>();
+    List<String> applicationArguments = new ArrayList<>();
+    for (String arg : args) {
+      if (!arg.startsWith("--")) {
+        positional.add(arg);
+        continue;
+      }
+      String[] option = arg.substring(2).split("=", 2);
+      String value = option.length > 1 ? option[1] : "true";
+      if (option[0].startsWith(APPLICATION_PREFIX)) {
+        applicationArguments.add("--" + option[0].substring(APPLICATION_PREFIX.length()) + "=" + value);
+      } else if (!defaults.containsKey(option[0])) {
+        throw new IllegalArgumentException("Unknown option --" + option[0] + ", expected one of " + defaults.keySet());
+      } else {
+        values.put(option[0], value);
+      }
+    }
+    return new LoadTestOptions(values, positional, applicationArguments);
+  }
+
+  String get(String name) {
+    return values.get(name);
+  }
+
+  int getInt(String name) {
+    return Integer.parseInt(values.get(name));
+  }
+
+  long getLong(String name) {
+    return Long.parseLong(values.get(name));
+  }
+
+  Duration getDuration(String name) {
+    return DurationStyle.detectAndParse(values.get(name));
+  }
+
+  Map<String, String> asMap() {
+    return Collections.unmodifiableMap(values);
+  }
+
+  List<String> positional() {
+    return Collections.unmodifiableList(positional);
+  }
+
+  List<String> applicationArguments() {
+    return Collections.unmodifiableList(applicationArguments);
+  }
+}
@@ -0,0 +1,157 @@
+package io.github.nataelienai.personmanagement.loadtest;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import org.HdrHistogram.EncodableHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+import org.HdrHistogram.HistogramLogWriter;
+
+final class LoadTestReport {
+  static final String RUN_FILE = "run.properties";
+  static final String SUMMARY_FILE = "summary.csv";
+  static final String HISTOGRAM_LOG_FILE = "latency.hlog";
+  static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+
+  private static final double NANOS_PER_MILLI = 1e6;
+  private static final String SUMMARY_HEADER =
+      "operation,requests,errors,dropped,throughput_per_second,p50_ms,p90_ms,p99_ms,p99_9_ms,max_ms";
+
+  private LoadTestReport() {
+  }
+
+  static void write(Path directory, Properties run, List<OperationStats> stats, long startMillis, Duration duration)
+      throws IOException {
+    Files.createDirectories(directory);
+
+    try (Writer writer = Files.newBufferedWriter(directory.resolve(RUN_FILE), StandardCharsets.UTF_8)) {
+      run.store(writer, "Load test configuration");
+    }
+
+    long endMillis = startMillis + duration.toMillis();
+    try (PrintStream out = printStream(directory.resolve(HISTOGRAM_LOG_FILE))) {
+      HistogramLogWriter logWriter = new HistogramLogWriter(out);
+      logWriter.outputLogFormatVersion();
+      logWriter.outputStartTime(startMillis);
+      logWriter.setBaseTime(startMillis);
+      logWriter.outputLegend();
+      for (OperationStats operation : stats) {
+        Histogram latencies = operation.latencies();
+        latencies.setStartTimeStamp(startMillis);
+        latencies.setEndTimeStamp(endMillis);
+        logWriter.outputIntervalHistogram(latencies);
+      }
+    }
+
+    for (OperationStats operation : stats) {
+      try (PrintStream out = printStream(directory.resolve(operation.name() + ".hgrm"))) {
+        operation.latencies().outputPercentileDistribution(out, NANOS_PER_MILLI);
+      }
+    }
+
+    List<String> lines = new ArrayList<>();
+    lines.add(SUMMARY_HEADER);
+    for (OperationStats operation : stats) {
+      Histogram latencies = operation.latencies();
+      lines.add(String.join(",",
+          operation.name(),
+          String.valueOf(operation.requests()),
+          String.valueOf(operation.errors()),
+          String.valueOf(operation.dropped()),
+          format(operation.requests() / (duration.toNanos() / 1e9)),
+          format(toMillis(latencies.getValueAtPercentile(50))),
+          format(toMillis(latencies.getValueAtPercentile(90))),
+          format(toMillis(latencies.getValueAtPercentile(99))),
+          format(toMillis(latencies.getValueAtPercentile(99.9))),
+          format(toMillis(latencies.getMaxValue()))));
+    }
+    Files.write(directory.resolve(SUMMARY_FILE), lines, StandardCharsets.UTF_8);
+  }
+
+  static void print(PrintStream out, List<OperationStats> stats, Duration duration) {
+    out.printf("%-16s %9s %7s %8s %12s %9s %9s %9s %9s %9s%n",
+        "operation", "requests", "errors", "dropped", "throughput", "p50", "p90", "p99", "p99.9", "max");
+    for (OperationStats operation : stats) {
+      Histogram latencies = operation.latencies();
+      out.printf("%-16s %9d %7d %8d %10.1f/s %7.2fms %7.2fms %7.2fms %7.2fms %7.2fms%n",
+          operation.name(),
+          operation.requests(),
+          operation.errors(),
+          operation.dropped(),
+          operation.requests() / (duration.toNanos() / 1e9),
+          toMillis(latencies.getValueAtPercentile(50)),
+          toMillis(latencies.getValueAtPercentile(90)),
+          toMillis(latencies.getValueAtPercentile(99)),
+          toMillis(latencies.getValueAtPercentile(99.9)),
+          toMillis(latencies.getMaxValue()));
+    }
+  }
+
+  static Properties readRun(Path directory) throws IOException {
+    Properties run = new Properties();
+    try (Reader reader = Files.newBufferedReader(directory.resolve(RUN_FILE), StandardCharsets.UTF_8)) {
+      run.load(reader);
+    }
+    return run;
+  }
+
+  static Map<String, Map<String, String>> readSummary(Path directory) throws IOException {
+    List<String> lines = Files.readAllLines(directory.resolve(SUMMARY_FILE), StandardCharsets.UTF_8);
+    String[] header = lines.get(0).split(",");
+    Map<String, Map<String, String>> summary = new LinkedHashMap<>();
+    for (String line : lines.subList(1, lines.size())) {
+      String[] values = line.split(",");
+      Map<String, String> row = new LinkedHashMap<>();
+      for (int i = 0; i < header.length; i++) {
+        row.put(header[i], values[i]);
+      }
+      summary.put(values[0], row);
+    }
+    return summary;
+  }
+
+  static Map<String, Histogram> readHistograms(Path directory) throws FileNotFoundException {
+    HistogramLogReader reader = new HistogramLogReader(directory.resolve(HISTOGRAM_LOG_FILE).toFile());
+    Map<String, Histogram> histograms = new LinkedHashMap<>();
+    EncodableHistogram histogram;
+    while ((histogram = reader.nextIntervalHistogram()) != null) {
+      histograms.put(histogram.getTag(), (Histogram) histogram);
+    }
+    reader.close();
+    return histograms;
+  }
+
+  static double toMillis(long nanos) {
+    return nanos / NANOS_PER_MILLI;
+  }
+
+  static String describe(Properties run) {
+    return run.stringPropertyNames().stream()
+        .sorted()
+        .map(name -> name + "=" + run.getProperty(name))
+        .collect(Collectors.joining(", "));
+  }
+
+  private static String format(double value) {
+    return String.format(Locale.ROOT, "%.3f", value);
+  }
+
+  private static PrintStream printStream(Path file) throws IOException {
+    return new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8.name());
+  }
+}
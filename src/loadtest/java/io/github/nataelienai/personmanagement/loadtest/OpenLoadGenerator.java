@@ -0,0 +1,90 @@
+package io.github.nataelienai.personmanagement.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+final class OpenLoadGenerator {
+  private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+  private final HttpClient client;
+  private final String baseUrl;
+  private final SeedData seedData;
+  private final Workload workload;
+  private final int maxInFlight;
+
+  OpenLoadGenerator(HttpClient client, String baseUrl, SeedData seedData, Workload workload, int maxInFlight) {
+    this.client = client;
+    this.baseUrl = baseUrl;
+    this.seedData = seedData;
+    this.workload = workload;
+    this.maxInFlight = maxInFlight;
+  }
+
+  Map<Operation, OperationStats> run(int ratePerSecond, Duration warmup, Duration duration, long randomSeed) {
+    Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    for (Operation operation : workload.operations()) {
+      stats.put(operation, new OperationStats(operation.label()));
+    }
+
+    SplittableRandom random = new SplittableRandom(randomSeed);
+    AtomicInteger inFlight = new AtomicInteger();
+    double intervalNanos = TimeUnit.SECONDS.toNanos(1) / (double) ratePerSecond;
+    long start = System.nanoTime();
+    long measureFrom = start + warmup.toNanos();
+    long end = measureFrom + duration.toNanos();
+
+    for (long i = 0;; i++) {
+      long intendedStart = start + (long) (i * intervalNanos);
+      if (intendedStart >= end) {
+        break;
+      }
+      waitUntil(intendedStart);
+
+      Operation operation = workload.next(random);
+      HttpRequest request = operation.request(baseUrl, seedData, random);
+      OperationStats operationStats = intendedStart >= measureFrom ? stats.get(operation) : null;
+      if (inFlight.get() >= maxInFlight) {
+        if (operationStats != null) {
+          operationStats.recordDropped();
+        }
+        continue;
+      }
+
+      inFlight.incrementAndGet();
+      client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+          .whenComplete((response, exception) -> {
+            long latencyNanos = System.nanoTime() - intendedStart;
+            inFlight.decrementAndGet();
+            if (operationStats == null) {
+              return;
+            }
+            if (exception != null) {
+              operationStats.recordFailure();
+            } else {
+              operationStats.recordResponse(response.statusCode(), latencyNanos);
+            }
+          });
+    }
+
+    long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+    while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+      LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+    }
+    return stats;
+  }
+
+  private static void waitUntil(long nanoTime) {
+    long remaining;
+    while ((remaining = nanoTime - System.nanoTime()) > 0) {
+      LockSupport.parkNanos(remaining);
+    }
+  }
+}
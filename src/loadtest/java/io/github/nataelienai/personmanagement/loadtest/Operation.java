@@ -0,0 +1,90 @@
+package io.github.nataelienai.personmanagement.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.util.SplittableRandom;
+
+enum Operation {
+  CREATE("create") {
+    @Override
+    HttpRequest request(String baseUrl, SeedData seedData, SplittableRandom random) {
+      return json(baseUrl + "/people")
+          .POST(BodyPublishers.ofString(personJson("Created " + random.nextInt(1_000_000), random)))
+          .build();
+    }
+  },
+  READ("read") {
+    @Override
+    HttpRequest request(String baseUrl, SeedData seedData, SplittableRandom random) {
+      long personId = seedData.personId(seedData.randomIndex(random));
+      return HttpRequest.newBuilder(URI.create(baseUrl + "/people/" + personId)).GET().build();
+    }
+  },
+  UPDATE("update") {
+    @Override
+    HttpRequest request(String baseUrl, SeedData seedData, SplittableRandom random) {
+      long personId = seedData.personId(seedData.randomIndex(random));
+      return json(baseUrl + "/people/" + personId)
+          .PUT(BodyPublishers.ofString(personJson("Updated " + random.nextInt(1_000_000), random)))
+          .build();
+    }
+  },
+  SET_MAIN("set-main") {
+    @Override
+    HttpRequest request(String baseUrl, SeedData seedData, SplittableRandom random) {
+      long index = seedData.randomIndex(random);
+      String uri = baseUrl + "/people/" + seedData.personId(index)
+          + "/addresses/" + seedData.addressId(index, random) + "/main";
+      return HttpRequest.newBuilder(URI.create(uri)).method("PATCH", BodyPublishers.noBody()).build();
+    }
+  },
+  READ_ADDRESSES("read-addresses") {
+    @Override
+    HttpRequest request(String baseUrl, SeedData seedData, SplittableRandom random) {
+      long personId = seedData.personId(seedData.randomIndex(random));
+      return HttpRequest.newBuilder(URI.create(baseUrl + "/people/" + personId + "/addresses")).GET().build();
+    }
+  },
+  ADD_ADDRESS("add-address") {
+    @Override
+    HttpRequest request(String baseUrl, SeedData seedData, SplittableRandom random) {
+      long personId = seedData.personId(seedData.randomIndex(random));
+      String body = String.format("{\"cep\":\"%05d-%03d\",\"city\":\"City\",\"street\":\"Street\",\"number\":%d}",
+          random.nextInt(100000), random.nextInt(1000), random.nextInt(1, 10000));
+      return json(baseUrl + "/people/" + personId + "/addresses")
+          .POST(BodyPublishers.ofString(body))
+          .build();
+    }
+  };
+
+  private final String label;
+
+  Operation(String label) {
+    this.label = label;
+  }
+
+  String label() {
+    return label;
+  }
+
+  abstract HttpRequest request(String baseUrl, SeedData seedData, SplittableRandom random);
+
+  static Operation fromLabel(String label) {
+    for (Operation operation : values()) {
+      if (operation.label.equals(label)) {
+        return operation;
+      }
+    }
+    throw new IllegalArgumentException("Unknown operation " + label);
+  }
+
+  private static HttpRequest.Builder json(String uri) {
+    return HttpRequest.newBuilder(URI.create(uri)).header("Content-Type", "application/json");
+  }
+
+  private static String personJson(String name, SplittableRandom random) {
+    return String.format("{\"name\":\"%s\",\"dateOfBirth\":\"%04d-%02d-%02d\"}",
+        name, random.nextInt(1950, 2010), random.nextInt(1, 13), random.nextInt(1, 29));
+  }
+}
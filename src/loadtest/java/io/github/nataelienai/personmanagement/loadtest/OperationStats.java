@@ -0,0 +1,79 @@
+package io.github.nataelienai.personmanagement.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+final class OperationStats {
+  private static final int SIGNIFICANT_DIGITS = 3;
+
+  private final String name;
+  private final Histogram latencies = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+  private final Map<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+  private final LongAdder failures = new LongAdder();
+  private final LongAdder dropped = new LongAdder();
+
+  OperationStats(String name) {
+    this.name = name;
+    this.latencies.setTag(name);
+  }
+
+  void recordResponse(int statusCode, long latencyNanos) {
+    latencies.recordValue(latencyNanos);
+    statusCodes.computeIfAbsent(statusCode, code -> new LongAdder()).increment();
+  }
+
+  void recordFailure() {
+    failures.increment();
+  }
+
+  void recordDropped() {
+    dropped.increment();
+  }
+
+  String name() {
+    return name;
+  }
+
+  Histogram latencies() {
+    return latencies;
+  }
+
+  long requests() {
+    return latencies.getTotalCount() + failures.sum();
+  }
+
+  long errors() {
+    long errorResponses = statusCodes.entrySet().stream()
+        .filter(entry -> entry.getKey() >= 400)
+        .mapToLong(entry -> entry.getValue().sum())
+        .sum();
+    return errorResponses + failures.sum();
+  }
+
+  long dropped() {
+    return dropped.sum();
+  }
+
+  Map<Integer, Long> statusCodes() {
+    Map<Integer, Long> counts = new TreeMap<>();
+    statusCodes.forEach((code, count) -> counts.put(code, count.sum()));
+    return counts;
+  }
+
+  static OperationStats total(Iterable<OperationStats> operations) {
+    OperationStats total = new OperationStats("all");
+    for (OperationStats operation : operations) {
+      total.latencies.add(operation.latencies);
+      operation.statusCodes.forEach((code, count) ->
+          total.statusCodes.computeIfAbsent(code, key -> new LongAdder()).add(count.sum()));
+      total.failures.add(operation.failures.sum());
+      total.dropped.add(operation.dropped.sum());
+    }
+    return total;
+  }
+}
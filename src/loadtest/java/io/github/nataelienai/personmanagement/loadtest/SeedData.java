@@ -0,0 +1,39 @@
+package io.github.nataelienai.personmanagement.loadtest;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+final class SeedData {
+  private final long peopleCount;
+  private final int addressesPerPerson;
+
+  SeedData(long peopleCount, int addressesPerPerson) {
+    this.peopleCount = peopleCount;
+    this.addressesPerPerson = addressesPerPerson;
+  }
+
+  long size() {
+    return peopleCount;
+  }
+
+  long randomIndex(SplittableRandom random) {
+    return random.nextLong(peopleCount);
+  }
+
+  long personId(long index) {
+    return index + 1;
+  }
+
+  long addressId(long index, SplittableRandom random) {
+    if (addressesPerPerson == 0) {
+      throw new IllegalStateException("Address operations need at least one address per person");
+    }
+    return index * addressesPerPerson + random.nextInt(addressesPerPerson) + 1;
+  }
+
+  List<Long> personIds() {
+    return LongStream.rangeClosed(1, peopleCount).boxed().collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,113 @@
+package io.github.nataelienai.personmanagement.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+final class VirtualThreadLoadTest {
+  private static final int PEOPLE_COUNT = 1000;
+
+  private final LoadTestOptions options;
+
+  private VirtualThreadLoadTest(LoadTestOptions options) {
+    this.options = options;
+  }
+
+  static void main(String[] args) throws Exception {
+    Map<String, String> defaults = new LinkedHashMap<>();
+    defaults.put("modes", "platform,virtual");
+    defaults.put("concurrency", "400");
+    defaults.put("warmup", "5s");
+    defaults.put("duration", "20s");
+    defaults.put("db-latency", "5ms");
+    defaults.put("pool-size", "50");
+    defaults.put("max-threads", "200");
+    LoadTestOptions options = LoadTestOptions.parse(Arrays.asList(args), defaults);
+
+    VirtualThreadLoadTest loadTest = new VirtualThreadLoadTest(options);
+    System.out.printf("GET /people/{personId}: concurrency=%s, db-latency=%s, pool-size=%s, max-threads=%s%n",
+        options.get("concurrency"), options.get("db-latency"), options.get("pool-size"), options.get("max-threads"));
+    for (String mode : options.get("modes").split(",")) {
+      loadTest.run(mode.trim());
+    }
+  }
+
+  void run(String mode) throws Exception {
+    if ("virtual".equals(mode) && Runtime.version().feature() < 21) {
+      System.out.printf("%-8s skipped: virtual threads require Java 21 or newer, but running on Java %d%n",
+          mode, Runtime.version().feature());
+      return;
+    }
+
+    try (LoadTestApplication application = LoadTestApplication.start(List.of(
+        "--server.tomcat.threads.max=" + options.get("max-threads"),
+        "--person-management.virtual-threads.enabled=" + "virtual".equals(mode),
+        "--spring.datasource.hikari.maximum-pool-size=" + options.get("pool-size"),
+        "--loadtest.db-latency=" + options.get("db-latency"),
+        "--spring.cache.type=none",
+        "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "--spring.jpa.properties.hibernate.cache.use_query_cache=false"))) {
+      List<Long> personIds = application.seed(PEOPLE_COUNT, 1, 42, BulkLoader.Method.JDBC_BATCH).personIds();
+      drive(mode, application.baseUrl() + "/people/", personIds);
+    }
+  }
+
+  private void drive(String mode, String baseUrl, List<Long> personIds) throws InterruptedException {
+    int concurrency = options.getInt("concurrency");
+    long warmupNanos = options.getDuration("warmup").toNanos();
+    long durationNanos = options.getDuration("duration").toNanos();
+
+    HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    Semaphore inFlight = new Semaphore(concurrency);
+    ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+    LongAdder errors = new LongAdder();
+
+    long start = System.nanoTime();
+    long measureFrom = start + warmupNanos;
+    long end = measureFrom + durationNanos;
+    while (System.nanoTime() < end) {
+      inFlight.acquire();
+      Long personId = personIds.get(ThreadLocalRandom.current().nextInt(personIds.size()));
+      HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + personId)).GET().build();
+      long sentAt = System.nanoTime();
+      client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+          .whenComplete((response, exception) -> {
+            long completedAt = System.nanoTime();
+            inFlight.release();
+            if (sentAt < measureFrom || completedAt > end) {
+              return;
+            }
+            if (exception != null || response.statusCode() != 200) {
+              errors.increment();
+            } else {
+              latencies.add(completedAt - sentAt);
+            }
+          });
+    }
+    inFlight.acquire(concurrency);
+
+    long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+    double seconds = durationNanos / 1e9;
+    System.out.printf("%-8s requests=%d errors=%d throughput=%.0f req/s p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms%n",
+        mode, sorted.length, errors.sum(), sorted.length / seconds,
+        percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99), percentile(sorted, 1.0));
+  }
+
+  private static double percentile(long[] sorted, double percentile) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int index = (int) Math.ceil(percentile * sorted.length) - 1;
+    return sorted[Math.max(index, 0)] / 1e6;
+  }
+}
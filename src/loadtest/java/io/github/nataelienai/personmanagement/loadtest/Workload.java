@@ -0,0 +1,71 @@
+package io.github.nataelienai.personmanagement.loadtest;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+final class Workload {
+  private static final Map<String, String> PRESETS = Map.of(
+      "read-heavy", "read=80,read-addresses=10,update=5,set-main=5",
+      "mixed", "create=10,read=50,update=20,set-main=10,read-addresses=10",
+      "write-heavy", "create=30,update=30,set-main=20,add-address=10,read=10");
+
+  private final Map<Operation, Integer> weights;
+  private final Operation[] operations;
+  private final int[] cumulativeWeights;
+
+  private Workload(Map<Operation, Integer> weights) {
+    this.weights = weights;
+    this.operations = weights.keySet().toArray(Operation[]::new);
+    this.cumulativeWeights = new int[operations.length];
+    int total = 0;
+    for (int i = 0; i < operations.length; i++) {
+      total += weights.get(operations[i]);
+      cumulativeWeights[i] = total;
+    }
+  }
+
+  static Workload parse(String workload) {
+    String mix = PRESETS.getOrDefault(workload, workload);
+    Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+    for (String entry : mix.split(",")) {
+      String[] parts = entry.trim().split("=", 2);
+      if (parts.length != 2) {
+        throw new IllegalArgumentException("Workload must be one of " + PRESETS.keySet()
+            + " or a mix such as read=80,update=20, but was " + workload);
+      }
+      int weight = Integer.parseInt(parts[1].trim());
+      if (weight > 0) {
+        weights.put(Operation.fromLabel(parts[0].trim()), weight);
+      }
+    }
+    if (weights.isEmpty()) {
+      throw new IllegalArgumentException("Workload " + workload + " has no operation with a positive weight");
+    }
+    return new Workload(weights);
+  }
+
+  Operation next(SplittableRandom random) {
+    int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+    for (int i = 0; i < cumulativeWeights.length; i++) {
+      if (value < cumulativeWeights[i]) {
+        return operations[i];
+      }
+    }
+    throw new IllegalStateException("Unreachable weight " + value);
+  }
+
+  Operation[] operations() {
+    return operations.clone();
+  }
+
+  String describe() {
+    Map<String, Integer> mix = new LinkedHashMap<>();
+    weights.forEach((operation, weight) -> mix.put(operation.label(), weight));
+    return mix.entrySet().stream()
+        .map(entry -> entry.getKey() + "=" + entry.getValue())
+        .collect(Collectors.joining(","));
+  }
+}
@@ -2,6 +2,7 @@ package io.github.nataelienai.personmanagement;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Info;
@@ -14,6 +15,7 @@ import io.swagger.v3.oas.annotations.info.Info;
   )
 )
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class PersonManagementApplication {
 
   public static void main(String[] args) {
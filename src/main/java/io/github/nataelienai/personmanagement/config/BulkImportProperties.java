@@ -0,0 +1,18 @@
+package io.github.nataelienai.personmanagement.config;
+
+import javax.validation.constraints.Min;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "person-management.bulk-import")
+public class BulkImportProperties {
+  @Min(1)
+  private int chunkSize = 500;
+}
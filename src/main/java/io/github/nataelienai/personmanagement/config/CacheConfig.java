@@ -0,0 +1,12 @@
+package io.github.nataelienai.personmanagement.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+@Configuration
+public class CacheConfig {
+  public static final String PEOPLE_CACHE = "people";
+  public static final String PERSON_ADDRESSES_CACHE = "personAddresses";
+}
@@ -0,0 +1,78 @@
+package io.github.nataelienai.personmanagement.config;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import io.github.nataelienai.personmanagement.dto.AddressRequest;
+import io.github.nataelienai.personmanagement.dto.AddressResponse;
+import io.github.nataelienai.personmanagement.dto.ErrorResponse;
+import io.github.nataelienai.personmanagement.dto.PeopleByCepPageResponse;
+import io.github.nataelienai.personmanagement.dto.PersonPageResponse;
+import io.github.nataelienai.personmanagement.dto.PersonRequest;
+import io.github.nataelienai.personmanagement.dto.PersonResponse;
+import io.github.nataelienai.personmanagement.dto.PersonSummaryPageResponse;
+import io.github.nataelienai.personmanagement.dto.PersonSummaryResponse;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Configuration
+public class MessageConverterConfig implements WebMvcConfigurer {
+  public static final String PROTOBUF_SCHEMA = "person_management.proto";
+  public static final List<Class<?>> PROTOBUF_TYPES = List.of(
+      PersonRequest.class,
+      AddressRequest.class,
+      PersonResponse.class,
+      AddressResponse.class,
+      PersonPageResponse.class,
+      PersonSummaryResponse.class,
+      PersonSummaryPageResponse.class,
+      PeopleByCepPageResponse.class,
+      ErrorResponse.class);
+
+  private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+  @Bean
+  public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+    return createCborHttpMessageConverter(builder);
+  }
+
+  @Bean
+  public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+    return createSmileHttpMessageConverter(builder);
+  }
+
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    converters.add(createProtobufHttpMessageConverter(objectMapperBuilder));
+  }
+
+  public static MappingJackson2CborHttpMessageConverter createCborHttpMessageConverter(
+      Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+  }
+
+  public static MappingJackson2SmileHttpMessageConverter createSmileHttpMessageConverter(
+      Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+  }
+
+  public static ProtobufHttpMessageConverter createProtobufHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+    return new ProtobufHttpMessageConverter(
+        builder.factory(new ProtobufFactory()).propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE).build(),
+        new ClassPathResource(PROTOBUF_SCHEMA),
+        PROTOBUF_TYPES);
+  }
+}
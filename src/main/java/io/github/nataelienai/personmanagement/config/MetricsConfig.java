@@ -0,0 +1,18 @@
+package io.github.nataelienai.personmanagement.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class MetricsConfig {
+  public static final String SERVICE_INVOCATIONS_METRIC = "service.invocations";
+  public static final String HANDLED_EXCEPTIONS_METRIC = "api.exceptions";
+
+  @Bean
+  public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+    return new TimedAspect(meterRegistry);
+  }
+}
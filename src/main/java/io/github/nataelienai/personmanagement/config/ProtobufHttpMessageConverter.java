@@ -0,0 +1,83 @@
+package io.github.nataelienai.personmanagement.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.protobuf.schema.NativeProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+
+public class ProtobufHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+  public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "protobuf");
+  public static final MediaType APPLICATION_X_PROTOBUF = new MediaType("application", "x-protobuf");
+
+  private final ObjectMapper objectMapper;
+  private final Map<Class<?>, ProtobufSchema> schemas = new HashMap<>();
+
+  public ProtobufHttpMessageConverter(ObjectMapper objectMapper, Resource schema, Collection<Class<?>> types) {
+    super(APPLICATION_X_PROTOBUF, APPLICATION_PROTOBUF);
+
+    if (!(objectMapper.getFactory() instanceof ProtobufFactory)) {
+      throw new IllegalArgumentException("ObjectMapper must be configured with a ProtobufFactory");
+    }
+    this.objectMapper = objectMapper;
+
+    NativeProtobufSchema nativeSchema = loadSchema(schema);
+    types.forEach(type -> {
+      if (!nativeSchema.hasMessageType(type.getSimpleName())) {
+        throw new IllegalStateException("Protobuf schema " + schema.getFilename() + " has no message "
+            + type.getSimpleName());
+      }
+      schemas.put(type, nativeSchema.forType(type.getSimpleName()));
+    });
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return schemas.containsKey(clazz);
+  }
+
+  @Override
+  protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+    try {
+      return objectMapper.readerFor(clazz)
+          .with(schemas.get(clazz))
+          .readValue(inputMessage.getBody());
+    } catch (JsonProcessingException exception) {
+      throw new HttpMessageNotReadableException("Protobuf request body has an invalid format", exception,
+          inputMessage);
+    }
+  }
+
+  @Override
+  protected void writeInternal(Object object, HttpOutputMessage outputMessage) throws IOException {
+    try {
+      objectMapper.writer(schemas.get(object.getClass()))
+          .writeValue(outputMessage.getBody(), object);
+    } catch (JsonProcessingException exception) {
+      throw new HttpMessageNotWritableException("Could not write Protobuf message", exception);
+    }
+  }
+
+  private static NativeProtobufSchema loadSchema(Resource schema) {
+    try (InputStream inputStream = schema.getInputStream()) {
+      return ProtobufSchemaLoader.std.loadNative(inputStream, false);
+    } catch (IOException exception) {
+      throw new IllegalStateException("Could not load Protobuf schema " + schema.getFilename(), exception);
+    }
+  }
+}
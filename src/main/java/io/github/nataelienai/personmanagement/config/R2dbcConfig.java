@@ -0,0 +1,55 @@
+package io.github.nataelienai.personmanagement.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+
+@Configuration
+public class R2dbcConfig implements DisposableBean {
+  private static final String H2_URL_PREFIX = "jdbc:h2:";
+
+  private ConnectionPool connectionPool;
+
+  // The pool is kept out of the context on purpose: a ConnectionFactory bean would make the JDBC DataSource
+  // auto-configuration back off, and the blocking API still needs it.
+  @Bean
+  public DatabaseClient databaseClient(DataSourceProperties dataSourceProperties,
+      ReactiveServerProperties reactiveServerProperties) {
+    connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(createConnectionFactory(dataSourceProperties))
+        .initialSize(0)
+        .maxSize(reactiveServerProperties.getMaxPoolSize())
+        .build());
+    return DatabaseClient.create(connectionPool);
+  }
+
+  @Override
+  public void destroy() {
+    if (connectionPool != null) {
+      connectionPool.dispose();
+    }
+  }
+
+  static ConnectionFactory createConnectionFactory(DataSourceProperties dataSourceProperties) {
+    String url = dataSourceProperties.determineUrl();
+    if (url == null || !url.startsWith(H2_URL_PREFIX)) {
+      throw new IllegalStateException("The reactive read API requires an H2 database, but the datasource URL is " + url);
+    }
+
+    H2ConnectionConfiguration.Builder configuration = H2ConnectionConfiguration.builder()
+        .url(url.substring(H2_URL_PREFIX.length()))
+        .username(dataSourceProperties.determineUsername());
+    String password = dataSourceProperties.determinePassword();
+    if (password != null && !password.isEmpty()) {
+      configuration.password(password);
+    }
+    return new H2ConnectionFactory(configuration.build());
+  }
+}
@@ -0,0 +1,41 @@
+package io.github.nataelienai.personmanagement.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.nataelienai.personmanagement.controller.ReactivePersonHandler;
+
+@Configuration
+@ConditionalOnProperty(prefix = "person-management.reactive-server", name = "enabled", havingValue = "true")
+public class ReactiveServerConfig {
+
+  @Bean
+  public RouterFunction<ServerResponse> reactivePersonRoutes(ReactivePersonHandler reactivePersonHandler) {
+    return reactivePersonHandler.routes();
+  }
+
+  @Bean
+  public ReactiveWebServer reactiveWebServer(RouterFunction<ServerResponse> reactivePersonRoutes,
+      ObjectMapper objectMapper, ReactiveServerProperties reactiveServerProperties) {
+    HandlerStrategies handlerStrategies = HandlerStrategies.builder()
+        .codecs(configurer -> {
+          configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+          configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+        })
+        .build();
+
+    return new ReactiveWebServer(
+        new NettyReactiveWebServerFactory(reactiveServerProperties.getPort()),
+        RouterFunctions.toHttpHandler(reactivePersonRoutes, handlerStrategies));
+  }
+}
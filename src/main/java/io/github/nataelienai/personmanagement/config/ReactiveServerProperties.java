@@ -0,0 +1,15 @@
+package io.github.nataelienai.personmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "person-management.reactive-server")
+public class ReactiveServerProperties {
+  private boolean enabled = false;
+  private int port = 8081;
+  private int maxPoolSize = 10;
+}
@@ -0,0 +1,38 @@
+package io.github.nataelienai.personmanagement.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.web.reactive.server.ReactiveWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerInitializedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.http.server.reactive.HttpHandler;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class ReactiveWebServer implements ApplicationListener<ServletWebServerInitializedEvent>, DisposableBean {
+  private final ReactiveWebServerFactory webServerFactory;
+  private final HttpHandler httpHandler;
+  private WebServer webServer;
+
+  @Override
+  public synchronized void onApplicationEvent(ServletWebServerInitializedEvent event) {
+    if (webServer != null || event.getApplicationContext().getServerNamespace() != null) {
+      return;
+    }
+    webServer = webServerFactory.getWebServer(httpHandler);
+    webServer.start();
+  }
+
+  public synchronized int getPort() {
+    return webServer == null ? -1 : webServer.getPort();
+  }
+
+  @Override
+  public synchronized void destroy() {
+    if (webServer != null) {
+      webServer.stop();
+      webServer = null;
+    }
+  }
+}
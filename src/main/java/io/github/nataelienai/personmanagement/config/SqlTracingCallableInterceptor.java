@@ -0,0 +1,24 @@
+package io.github.nataelienai.personmanagement.config;
+
+import java.util.concurrent.Callable;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import net.ttddyy.dsproxy.QueryCountHolder;
+
+class SqlTracingCallableInterceptor implements CallableProcessingInterceptor {
+
+  @Override
+  public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+    QueryCountHolder.clear();
+  }
+
+  @Override
+  public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+    SqlTracingFilter.addQueryCount(request.getNativeRequest(HttpServletRequest.class), QueryCountHolder.getGrandTotal());
+    QueryCountHolder.clear();
+  }
+}
@@ -0,0 +1,68 @@
+package io.github.nataelienai.personmanagement.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.listener.logging.DefaultQueryLogEntryCreator;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+@Configuration
+public class SqlTracingConfig {
+  private static final Logger logger = LoggerFactory.getLogger(SqlTracingConfig.class);
+
+  @Bean
+  public static BeanPostProcessor dataSourceProxyBeanPostProcessor(ObjectProvider<SqlTracingProperties> sqlTracingProperties) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource && !(bean instanceof ProxyDataSource)) {
+          return createProxyDataSource((DataSource) bean, beanName,
+              sqlTracingProperties.getObject().getSlowQueryThreshold());
+        }
+        return bean;
+      }
+    };
+  }
+
+  @Bean
+  public SqlTracingFilter sqlTracingFilter(SqlTracingProperties sqlTracingProperties, MeterRegistry meterRegistry) {
+    return new SqlTracingFilter(sqlTracingProperties.isResponseHeaders(), meterRegistry);
+  }
+
+  @Bean
+  public WebMvcConfigurer sqlTracingAsyncSupportConfigurer() {
+    return new WebMvcConfigurer() {
+      @Override
+      public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new SqlTracingCallableInterceptor());
+      }
+    };
+  }
+
+  static DataSource createProxyDataSource(DataSource dataSource, String name, Duration slowQueryThreshold) {
+    DefaultQueryLogEntryCreator logEntryCreator = new DefaultQueryLogEntryCreator();
+    long slowQueryThresholdMillis = slowQueryThreshold.toMillis();
+
+    return ProxyDataSourceBuilder.create(dataSource)
+        .name(name)
+        .countQuery()
+        .afterQuery((executionInfo, queryInfos) -> {
+          if (executionInfo.getElapsedTime() >= slowQueryThresholdMillis) {
+            logger.warn("Slow query: {}", logEntryCreator.getLogEntry(executionInfo, queryInfos, false, true, false));
+          }
+        })
+        .build();
+  }
+}
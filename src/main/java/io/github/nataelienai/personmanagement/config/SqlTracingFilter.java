@@ -0,0 +1,153 @@
+package io.github.nataelienai.personmanagement.config;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+
+public class SqlTracingFilter extends OncePerRequestFilter {
+  public static final String STATEMENT_COUNT_HEADER = "X-Sql-Statement-Count";
+  public static final String TIME_HEADER = "X-Sql-Time-Ms";
+  public static final String STATEMENTS_METRIC = "http.server.requests.sql.statements";
+  public static final String TIME_METRIC = "http.server.requests.sql.time";
+  private static final String QUERY_COUNT_ATTRIBUTE = SqlTracingFilter.class.getName() + ".QUERY_COUNT";
+
+  private final Logger logger = LoggerFactory.getLogger(SqlTracingFilter.class);
+  private final boolean responseHeaders;
+  private final MeterRegistry meterRegistry;
+
+  public SqlTracingFilter(boolean responseHeaders, MeterRegistry meterRegistry) {
+    this.responseHeaders = responseHeaders;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    QueryCountHolder.clear();
+    SqlTracingResponse tracingResponse = responseHeaders ? new SqlTracingResponse(request, response) : null;
+
+    try {
+      filterChain.doFilter(request, tracingResponse == null ? response : tracingResponse);
+    } finally {
+      addQueryCount(request, QueryCountHolder.getGrandTotal());
+      QueryCountHolder.clear();
+
+      // Statements run on an async thread, such as by a StreamingResponseBody, are added by
+      // SqlTracingCallableInterceptor, so the request is only recorded once its async dispatch completes
+      if (!isAsyncStarted(request)) {
+        QueryCount queryCount = currentQueryCount(request);
+        if (tracingResponse != null) {
+          tracingResponse.writeHeaders(queryCount);
+        }
+        record(request, queryCount);
+      }
+    }
+  }
+
+  static synchronized void addQueryCount(HttpServletRequest request, QueryCount queryCount) {
+    QueryCount requestQueryCount = (QueryCount) request.getAttribute(QUERY_COUNT_ATTRIBUTE);
+    request.setAttribute(QUERY_COUNT_ATTRIBUTE, sum(requestQueryCount, queryCount));
+  }
+
+  private static synchronized QueryCount currentQueryCount(HttpServletRequest request) {
+    return sum((QueryCount) request.getAttribute(QUERY_COUNT_ATTRIBUTE), QueryCountHolder.getGrandTotal());
+  }
+
+  private static QueryCount sum(QueryCount queryCount, QueryCount otherQueryCount) {
+    QueryCount sum = new QueryCount();
+    if (queryCount != null) {
+      sum.setTotal(queryCount.getTotal());
+      sum.setTime(queryCount.getTime());
+    }
+    sum.setTotal(sum.getTotal() + otherQueryCount.getTotal());
+    sum.setTime(sum.getTime() + otherQueryCount.getTime());
+    return sum;
+  }
+
+  private void record(HttpServletRequest request, QueryCount queryCount) {
+    Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    Tags tags = Tags.of("method", request.getMethod(), "uri", uri == null ? "UNKNOWN" : uri.toString());
+
+    DistributionSummary.builder(STATEMENTS_METRIC)
+        .tags(tags)
+        .register(meterRegistry)
+        .record(queryCount.getTotal());
+    Timer.builder(TIME_METRIC)
+        .tags(tags)
+        .register(meterRegistry)
+        .record(queryCount.getTime(), TimeUnit.MILLISECONDS);
+
+    logger.debug("{} {} ran {} SQL statements in {} ms", request.getMethod(), request.getRequestURI(),
+        queryCount.getTotal(), queryCount.getTime());
+  }
+
+  private static class SqlTracingResponse extends HttpServletResponseWrapper {
+    private final HttpServletRequest request;
+    private final Thread requestThread = Thread.currentThread();
+    private boolean headersWritten;
+
+    SqlTracingResponse(HttpServletRequest request, HttpServletResponse response) {
+      super(response);
+      this.request = request;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+      writeHeaders();
+      return super.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+      writeHeaders();
+      return super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+      writeHeaders();
+      super.flushBuffer();
+    }
+
+    // A body streamed from an async thread commits the response before its statements are known, so such
+    // responses carry no headers and are only counted in the metrics
+    private void writeHeaders() {
+      if (Thread.currentThread() == requestThread) {
+        writeHeaders(currentQueryCount(request));
+      }
+    }
+
+    void writeHeaders(QueryCount queryCount) {
+      if (headersWritten || isCommitted() || Thread.currentThread() != requestThread) {
+        return;
+      }
+      headersWritten = true;
+      setHeader(STATEMENT_COUNT_HEADER, String.valueOf(queryCount.getTotal()));
+      setHeader(TIME_HEADER, String.valueOf(queryCount.getTime()));
+    }
+  }
+}
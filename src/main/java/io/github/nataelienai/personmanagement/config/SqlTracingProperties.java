@@ -0,0 +1,16 @@
+package io.github.nataelienai.personmanagement.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "person-management.sql-tracing")
+public class SqlTracingProperties {
+  private boolean responseHeaders = false;
+  private Duration slowQueryThreshold = Duration.ofMillis(500);
+}
@@ -0,0 +1,52 @@
+package io.github.nataelienai.personmanagement.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+@Configuration
+@ConditionalOnProperty(prefix = "person-management.virtual-threads", name = "enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+  @Bean
+  public ExecutorService virtualThreadExecutor() {
+    return newVirtualThreadPerTaskExecutor();
+  }
+
+  @Bean
+  public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer(
+      ExecutorService virtualThreadExecutor) {
+    return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+  }
+
+  // Runs Spring MVC async requests, such as the NDJSON export. The application has no @EnableAsync or @Async
+  // methods; the alias only makes any added later run on virtual threads too
+  @Bean(name = {
+      TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+      AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+  })
+  public AsyncTaskExecutor applicationTaskExecutor(ExecutorService virtualThreadExecutor) {
+    return new TaskExecutorAdapter(virtualThreadExecutor);
+  }
+
+  static ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (NoSuchMethodException exception) {
+      throw new IllegalStateException("Virtual threads require Java 21 or newer, but running on Java "
+          + Runtime.version().feature(), exception);
+    } catch (IllegalAccessException | InvocationTargetException exception) {
+      throw new IllegalStateException("Could not create a virtual thread executor", exception);
+    }
+  }
+}
@@ -3,8 +3,12 @@ package io.github.nataelienai.personmanagement.controller;
 import java.util.List;
 
 import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -13,10 +17,12 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import io.github.nataelienai.personmanagement.dto.AddressRequest;
 import io.github.nataelienai.personmanagement.dto.AddressResponse;
 import io.github.nataelienai.personmanagement.dto.ErrorResponse;
+import io.github.nataelienai.personmanagement.dto.VersionedAddressesResult;
 import io.github.nataelienai.personmanagement.service.AddressService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -26,6 +32,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 
 @Tag(name = "Address", description = "Address resource API")
+@Validated
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/people/{personId}/addresses")
@@ -43,14 +50,35 @@ public class AddressController {
     return addressService.create(personId, addressRequest);
   }
 
+  @Operation(summary = "Create several addresses for a person at once", responses = {
+      @ApiResponse(responseCode = "201", description = "Addresses created"),
+      @ApiResponse(responseCode = "400", description = "Invalid request body", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+      @ApiResponse(responseCode = "404", description = "Person id not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+  })
+  @PostMapping("/batch")
+  @ResponseStatus(HttpStatus.CREATED)
+  public List<AddressResponse> createAll(@PathVariable Long personId,
+      @RequestBody @NotEmpty(message = "At least one address is required") List<@Valid AddressRequest> addressRequests) {
+    return addressService.createAll(personId, addressRequests);
+  }
+
   @Operation(summary = "Get all addresses for a person", responses = {
       @ApiResponse(responseCode = "200", description = "Addresses retrieved"),
+      @ApiResponse(responseCode = "304", description = "Addresses not modified", content = @Content),
       @ApiResponse(responseCode = "404", description = "Person id not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
   })
   @GetMapping
-  @ResponseStatus(HttpStatus.OK)
-  public List<AddressResponse> findAllByPersonId(@PathVariable Long personId) {
-    return addressService.findAllByPersonId(personId);
+  public ResponseEntity<List<AddressResponse>> findAllByPersonId(@PathVariable Long personId, WebRequest webRequest) {
+    VersionedAddressesResult versionedAddresses = addressService.findAllByPersonId(personId);
+    String eTag = RepresentationETags.of(versionedAddresses.getVersion(), webRequest, "addresses");
+    if (webRequest.checkNotModified(eTag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).varyBy(HttpHeaders.ACCEPT).build();
+    }
+
+    return ResponseEntity.ok()
+        .eTag(eTag)
+        .varyBy(HttpHeaders.ACCEPT)
+        .body(versionedAddresses.getAddresses());
   }
 
   @Operation(summary = "Set a person's address as their main one", responses = {
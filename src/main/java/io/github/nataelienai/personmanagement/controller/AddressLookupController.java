@@ -0,0 +1,48 @@
+package io.github.nataelienai.personmanagement.controller;
+
+import java.util.List;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.github.nataelienai.personmanagement.dto.ErrorResponse;
+import io.github.nataelienai.personmanagement.dto.PeopleByCepPageResponse;
+import io.github.nataelienai.personmanagement.service.PersonService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@Tag(name = "Address", description = "Address resource API")
+@Validated
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/addresses")
+public class AddressLookupController {
+  private final PersonService personService;
+
+  @Operation(summary = "Get a page of the people living at each of the given CEPs, ordered by id", responses = {
+      @ApiResponse(responseCode = "200", description = "People retrieved, grouped by CEP"),
+      @ApiResponse(responseCode = "400", description = "Missing or invalid CEP, invalid cursor or limit", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+  })
+  @GetMapping
+  @ResponseStatus(HttpStatus.OK)
+  public PeopleByCepPageResponse findPeopleByCep(
+      @RequestParam @Size(max = 50, message = "At most 50 CEPs can be given") List<@Pattern(regexp = "^\\d{5}-\\d{3}$", message = "CEP has an invalid format, a valid format would be 00000-000") String> cep,
+      @RequestParam(required = false) String after,
+      @RequestParam(defaultValue = "20") @Min(value = 1, message = "Limit must be at least 1") @Max(value = 100, message = "Limit must be at most 100") int limit) {
+    return personService.findAllByCep(cep, after, limit);
+  }
+}
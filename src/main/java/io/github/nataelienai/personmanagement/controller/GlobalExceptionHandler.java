@@ -3,30 +3,50 @@ package io.github.nataelienai.personmanagement.controller;
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.validation.ConstraintViolationException;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.bind.UnsatisfiedServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
 
+import io.github.nataelienai.personmanagement.config.MetricsConfig;
 import io.github.nataelienai.personmanagement.dto.ErrorResponse;
 import io.github.nataelienai.personmanagement.dto.ValidationErrorResponse;
 import io.github.nataelienai.personmanagement.exception.AddressNotFoundException;
 import io.github.nataelienai.personmanagement.exception.DateOfBirthParseException;
+import io.github.nataelienai.personmanagement.exception.InvalidCursorException;
+import io.github.nataelienai.personmanagement.exception.MissingSearchFilterException;
 import io.github.nataelienai.personmanagement.exception.PersonNotFoundException;
+import io.github.nataelienai.personmanagement.exception.PersonVersionMismatchException;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.swagger.v3.oas.annotations.Hidden;
+import lombok.RequiredArgsConstructor;
 
+@RequiredArgsConstructor
 @RestControllerAdvice
 public class GlobalExceptionHandler {
   private final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+  private final MeterRegistry meterRegistry;
 
   @Hidden
-  @ExceptionHandler(HttpMessageNotReadableException.class)
+  @ExceptionHandler({
+      HttpMessageNotReadableException.class,
+      JsonProcessingException.class
+  })
   @ResponseStatus(HttpStatus.BAD_REQUEST)
-  public ErrorResponse handleHttpMessageNotReadableException(HttpMessageNotReadableException exception) {
+  public ErrorResponse handleHttpMessageNotReadableException(Exception exception) {
+    countException(exception, HttpStatus.BAD_REQUEST);
     return new ErrorResponse(HttpStatus.BAD_REQUEST.value(), "JSON request body has an invalid format");
   }
 
@@ -34,6 +54,8 @@ public class GlobalExceptionHandler {
   @ExceptionHandler(MethodArgumentNotValidException.class)
   @ResponseStatus(HttpStatus.BAD_REQUEST)
   public ValidationErrorResponse handleValidationException(MethodArgumentNotValidException exception) {
+    countException(exception, HttpStatus.BAD_REQUEST);
+
     Map<String, String> fieldErrors = new HashMap<>();
 
     exception.getFieldErrors().forEach(fieldError -> {
@@ -46,9 +68,55 @@ public class GlobalExceptionHandler {
   }
 
   @Hidden
-  @ExceptionHandler(DateOfBirthParseException.class)
+  @ExceptionHandler(ConstraintViolationException.class)
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  public ValidationErrorResponse handleConstraintViolationException(ConstraintViolationException exception) {
+    countException(exception, HttpStatus.BAD_REQUEST);
+
+    Map<String, String> fieldErrors = new HashMap<>();
+
+    exception.getConstraintViolations().forEach(violation -> {
+      String propertyPath = violation.getPropertyPath().toString();
+      String fieldName = propertyPath.substring(propertyPath.indexOf('.') + 1).replace(".<list element>", "");
+      fieldErrors.put(fieldName, violation.getMessage());
+    });
+
+    return new ValidationErrorResponse(HttpStatus.BAD_REQUEST.value(), fieldErrors);
+  }
+
+  @Hidden
+  @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  public ErrorResponse handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException exception) {
+    countException(exception, HttpStatus.BAD_REQUEST);
+    return new ErrorResponse(HttpStatus.BAD_REQUEST.value(), "Parameter " + exception.getName() + " has an invalid value");
+  }
+
+  @Hidden
+  @ExceptionHandler(MissingServletRequestParameterException.class)
   @ResponseStatus(HttpStatus.BAD_REQUEST)
-  public ErrorResponse handleDateOfBirthParseException(DateOfBirthParseException exception) {
+  public ErrorResponse handleMissingServletRequestParameterException(MissingServletRequestParameterException exception) {
+    countException(exception, HttpStatus.BAD_REQUEST);
+    return new ErrorResponse(HttpStatus.BAD_REQUEST.value(), "Parameter " + exception.getParameterName() + " is required");
+  }
+
+  @Hidden
+  @ExceptionHandler(UnsatisfiedServletRequestParameterException.class)
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  public ErrorResponse handleUnsatisfiedServletRequestParameterException(UnsatisfiedServletRequestParameterException exception) {
+    countException(exception, HttpStatus.BAD_REQUEST);
+    return new ErrorResponse(HttpStatus.BAD_REQUEST.value(), "The given parameters cannot be combined");
+  }
+
+  @Hidden
+  @ExceptionHandler({
+      DateOfBirthParseException.class,
+      InvalidCursorException.class,
+      MissingSearchFilterException.class
+  })
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  public ErrorResponse handleBadRequestException(RuntimeException exception) {
+    countException(exception, HttpStatus.BAD_REQUEST);
     return new ErrorResponse(HttpStatus.BAD_REQUEST.value(), exception.getMessage());
   }
 
@@ -59,14 +127,38 @@ public class GlobalExceptionHandler {
   })
   @ResponseStatus(HttpStatus.NOT_FOUND)
   public ErrorResponse handleResourceNotFoundException(RuntimeException exception) {
+    countException(exception, HttpStatus.NOT_FOUND);
     return new ErrorResponse(HttpStatus.NOT_FOUND.value(), exception.getMessage());
   }
 
+  @Hidden
+  @ExceptionHandler(PersonVersionMismatchException.class)
+  @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+  public ErrorResponse handlePersonVersionMismatchException(PersonVersionMismatchException exception) {
+    countException(exception, HttpStatus.PRECONDITION_FAILED);
+    return new ErrorResponse(HttpStatus.PRECONDITION_FAILED.value(), exception.getMessage());
+  }
+
+  @Hidden
+  @ExceptionHandler(HttpMediaTypeNotAcceptableException.class)
+  @ResponseStatus(HttpStatus.NOT_ACCEPTABLE)
+  public void handleHttpMediaTypeNotAcceptableException(HttpMediaTypeNotAcceptableException exception) {
+    countException(exception, HttpStatus.NOT_ACCEPTABLE);
+  }
+
   @Hidden
   @ExceptionHandler(Exception.class)
   @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
   public ErrorResponse handleUncaughtException(Exception exception) {
+    countException(exception, HttpStatus.INTERNAL_SERVER_ERROR);
     logger.error(exception.getMessage(), exception);
     return new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Internal Server Error");
   }
+
+  private void countException(Exception exception, HttpStatus status) {
+    meterRegistry.counter(MetricsConfig.HANDLED_EXCEPTIONS_METRIC,
+        "exception", exception.getClass().getSimpleName(),
+        "status", String.valueOf(status.value()))
+        .increment();
+  }
 }
@@ -1,22 +1,49 @@
 package io.github.nataelienai.personmanagement.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import io.github.nataelienai.personmanagement.dto.ErrorResponse;
+import io.github.nataelienai.personmanagement.dto.PersonFields;
+import io.github.nataelienai.personmanagement.dto.PersonLookupResult;
+import io.github.nataelienai.personmanagement.dto.PersonPageResponse;
 import io.github.nataelienai.personmanagement.dto.PersonRequest;
 import io.github.nataelienai.personmanagement.dto.PersonResponse;
+import io.github.nataelienai.personmanagement.dto.PersonSearchRequest;
+import io.github.nataelienai.personmanagement.dto.PersonSuggestionResponse;
+import io.github.nataelienai.personmanagement.dto.PersonSummaryPageResponse;
+import io.github.nataelienai.personmanagement.dto.PersonSummaryResponse;
+import io.github.nataelienai.personmanagement.dto.VersionedPersonResult;
+import io.github.nataelienai.personmanagement.dto.VersionedPersonSummaryResult;
+import io.github.nataelienai.personmanagement.exception.PersonVersionMismatchException;
+import io.github.nataelienai.personmanagement.service.PersonAutocompleteService;
 import io.github.nataelienai.personmanagement.service.PersonService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -26,11 +53,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 
 @Tag(name = "Person", description = "Person resource API")
+@Validated
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/people")
 public class PersonController {
   private final PersonService personService;
+  private final PersonAutocompleteService personAutocompleteService;
 
   @Operation(summary = "Create a person", responses = {
       @ApiResponse(responseCode = "201", description = "Person created"),
@@ -42,33 +71,145 @@ public class PersonController {
     return personService.create(personRequest);
   }
 
-  @Operation(summary = "Get all people", responses = {
+  @Operation(summary = "Get a page of people ordered by id", responses = {
       @ApiResponse(responseCode = "200", description = "People retrieved"),
+      @ApiResponse(responseCode = "400", description = "Invalid cursor, limit or fields", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
   })
-  @GetMapping
+  @GetMapping(params = "!ids")
   @ResponseStatus(HttpStatus.OK)
-  public List<PersonResponse> findAll() {
-    return personService.findAll();
+  public PersonPageResponse findAll(
+      @RequestParam(required = false) String after,
+      @RequestParam(defaultValue = "20") @Min(value = 1, message = "Limit must be at least 1") @Max(value = 100, message = "Limit must be at most 100") int limit,
+      @RequestParam(required = false) List<@Pattern(regexp = PersonFields.NAMES_PATTERN, message = "Field must be one of id, name, dateOfBirth or addresses") String> fields) {
+    return personService.findAll(after, limit, PersonFields.of(fields));
+  }
+
+  @Operation(summary = "Get a page of person summaries, with their main address only, ordered by id", responses = {
+      @ApiResponse(responseCode = "200", description = "People retrieved"),
+      @ApiResponse(responseCode = "400", description = "Invalid cursor or limit", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+  })
+  @GetMapping(params = { "view=summary", "!ids" })
+  @ResponseStatus(HttpStatus.OK)
+  public PersonSummaryPageResponse findAllSummaries(
+      @RequestParam(required = false) String after,
+      @RequestParam(defaultValue = "20") @Min(value = 1, message = "Limit must be at least 1") @Max(value = 100, message = "Limit must be at most 100") int limit) {
+    return personService.findAllSummaries(after, limit);
+  }
+
+  @Operation(summary = "Get the people with each of the given ids, in the given order", responses = {
+      @ApiResponse(responseCode = "200", description = "People retrieved, with a NOT_FOUND status for unknown ids"),
+      @ApiResponse(responseCode = "400", description = "Missing, invalid or too many ids or invalid fields", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+  })
+  @GetMapping(params = { "ids", "!view" })
+  @ResponseStatus(HttpStatus.OK)
+  public List<PersonLookupResult> findAllByIds(
+      @RequestParam @NotEmpty(message = "At least 1 id must be given") @Size(max = 500, message = "At most 500 ids can be given") List<@NotNull(message = "Id is required") Long> ids,
+      @RequestParam(required = false) List<@Pattern(regexp = PersonFields.NAMES_PATTERN, message = "Field must be one of id, name, dateOfBirth or addresses") String> fields) {
+    return personService.findAllByIds(ids, PersonFields.of(fields));
+  }
+
+  @Operation(summary = "Search people by name prefix, date of birth range, city or CEP, ordered by id", responses = {
+      @ApiResponse(responseCode = "200", description = "People retrieved"),
+      @ApiResponse(responseCode = "400", description = "Missing filters, invalid filter, cursor, limit or fields", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+  })
+  @GetMapping("/search")
+  @ResponseStatus(HttpStatus.OK)
+  public PersonPageResponse search(
+      @RequestParam(required = false) String name,
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate bornFrom,
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate bornTo,
+      @RequestParam(required = false) String city,
+      @RequestParam(required = false) @Pattern(regexp = "^\\d{5}-\\d{3}$", message = "CEP has an invalid format, a valid format would be 00000-000") String cep,
+      @RequestParam(required = false) String after,
+      @RequestParam(defaultValue = "20") @Min(value = 1, message = "Limit must be at least 1") @Max(value = 100, message = "Limit must be at most 100") int limit,
+      @RequestParam(required = false) List<@Pattern(regexp = PersonFields.NAMES_PATTERN, message = "Field must be one of id, name, dateOfBirth or addresses") String> fields) {
+    PersonSearchRequest searchRequest = new PersonSearchRequest(name, bornFrom, bornTo, city, cep);
+    return personService.search(searchRequest, after, limit, PersonFields.of(fields));
+  }
+
+  @Operation(summary = "Suggest people whose name contains the query or has a word starting with it", responses = {
+      @ApiResponse(responseCode = "200", description = "Suggestions retrieved"),
+      @ApiResponse(responseCode = "400", description = "Invalid query or limit", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+  })
+  @GetMapping("/autocomplete")
+  @ResponseStatus(HttpStatus.OK)
+  public List<PersonSuggestionResponse> autocomplete(
+      @RequestParam @NotBlank(message = "Query is required") @Size(max = 100, message = "Query must have at most 100 characters") String q,
+      @RequestParam(defaultValue = "10") @Min(value = 1, message = "Limit must be at least 1") @Max(value = 50, message = "Limit must be at most 50") int limit) {
+    return personAutocompleteService.autocomplete(q, limit);
   }
 
   @Operation(summary = "Get a person by their id", responses = {
       @ApiResponse(responseCode = "200", description = "Person retrieved"),
+      @ApiResponse(responseCode = "304", description = "Person not modified", content = @Content),
+      @ApiResponse(responseCode = "400", description = "Invalid fields or include", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
       @ApiResponse(responseCode = "404", description = "Person id not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
   })
-  @GetMapping("/{personId}")
-  @ResponseStatus(HttpStatus.OK)
-  public PersonResponse findById(@PathVariable Long personId) {
-    return personService.findById(personId);
+  @GetMapping(path = "/{personId}", params = "!include")
+  public ResponseEntity<PersonResponse> findById(@PathVariable Long personId,
+      @RequestParam(required = false) List<@Pattern(regexp = PersonFields.NAMES_PATTERN, message = "Field must be one of id, name, dateOfBirth or addresses") String> fields,
+      WebRequest webRequest) {
+    PersonFields personFields = PersonFields.of(fields);
+    VersionedPersonResult versionedPerson = personService.findById(personId, personFields);
+    String eTag = RepresentationETags.of(versionedPerson.getVersion(), webRequest, personFields);
+    if (webRequest.checkNotModified(eTag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).varyBy(HttpHeaders.ACCEPT).build();
+    }
+
+    return ResponseEntity.ok()
+        .eTag(eTag)
+        .varyBy(HttpHeaders.ACCEPT)
+        .body(versionedPerson.getPerson());
+  }
+
+  @Operation(summary = "Get a person by their id with their main address only", responses = {
+      @ApiResponse(responseCode = "200", description = "Person retrieved"),
+      @ApiResponse(responseCode = "304", description = "Person not modified", content = @Content),
+      @ApiResponse(responseCode = "400", description = "Fields combined with include", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+      @ApiResponse(responseCode = "404", description = "Person id not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+  })
+  @GetMapping(path = "/{personId}", params = { "include=mainAddress", "!fields" })
+  public ResponseEntity<PersonSummaryResponse> findSummaryById(@PathVariable Long personId, WebRequest webRequest) {
+    VersionedPersonSummaryResult versionedSummary = personService.findSummaryById(personId);
+    String eTag = RepresentationETags.of(versionedSummary.getVersion(), webRequest, "include=mainAddress");
+    if (webRequest.checkNotModified(eTag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).varyBy(HttpHeaders.ACCEPT).build();
+    }
+
+    return ResponseEntity.ok()
+        .eTag(eTag)
+        .varyBy(HttpHeaders.ACCEPT)
+        .body(versionedSummary.getSummary());
   }
 
   @Operation(summary = "Update a person by their id", responses = {
-      @ApiResponse(responseCode = "200", description = "Person updated"),
+      @ApiResponse(responseCode = "200", description = "Person updated, with their new ETag"),
       @ApiResponse(responseCode = "400", description = "Invalid request body", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
-      @ApiResponse(responseCode = "404", description = "Person id not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+      @ApiResponse(responseCode = "404", description = "Person id not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+      @ApiResponse(responseCode = "412", description = "Person does not match the If-Match ETag", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
   })
   @PutMapping("/{personId}")
-  @ResponseStatus(HttpStatus.OK)
-  public PersonResponse update(@PathVariable Long personId, @Valid @RequestBody PersonRequest personRequest) {
-    return personService.update(personId, personRequest);
+  public ResponseEntity<PersonResponse> update(@PathVariable Long personId,
+      @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+      @Valid @RequestBody PersonRequest personRequest, WebRequest webRequest) {
+    Long version = parseVersion(personId, ifMatch);
+    VersionedPersonResult versionedPerson = personService.update(personId, version, personRequest);
+
+    return ResponseEntity.ok()
+        .eTag(RepresentationETags.of(versionedPerson.getVersion(), webRequest, PersonFields.ALL))
+        .varyBy(HttpHeaders.ACCEPT)
+        .body(versionedPerson.getPerson());
+  }
+
+  private static Long parseVersion(Long personId, String ifMatch) {
+    if (ifMatch == null || ifMatch.trim().equals("*")) {
+      return null;
+    }
+
+    Long version = RepresentationETags.parseVersion(ifMatch.trim());
+    if (version == null) {
+      throw new PersonVersionMismatchException(personId);
+    }
+    return version;
   }
 }
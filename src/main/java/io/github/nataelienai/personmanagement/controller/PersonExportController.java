@@ -0,0 +1,32 @@
+package io.github.nataelienai.personmanagement.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import io.github.nataelienai.personmanagement.service.PersonExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@Tag(name = "Person", description = "Person resource API")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/people/export")
+public class PersonExportController {
+  private final PersonExportService personExportService;
+
+  @Operation(summary = "Export all people and their addresses as newline-delimited JSON", responses = {
+      @ApiResponse(responseCode = "200", description = "People exported"),
+  })
+  @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> exportAll() {
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(personExportService::exportAll);
+  }
+}
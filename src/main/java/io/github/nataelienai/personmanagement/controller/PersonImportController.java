@@ -0,0 +1,58 @@
+package io.github.nataelienai.personmanagement.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.nataelienai.personmanagement.dto.ErrorResponse;
+import io.github.nataelienai.personmanagement.dto.PersonImportResponse;
+import io.github.nataelienai.personmanagement.dto.PersonRequest;
+import io.github.nataelienai.personmanagement.service.PersonImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@Tag(name = "Person", description = "Person resource API")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/people/bulk")
+public class PersonImportController {
+  private final PersonImportService personImportService;
+  private final ObjectMapper objectMapper;
+
+  @Operation(summary = "Create people in bulk from a JSON array", responses = {
+      @ApiResponse(responseCode = "200", description = "People imported, with the result of each record"),
+      @ApiResponse(responseCode = "400", description = "Invalid request body", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+  })
+  @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+  @ResponseStatus(HttpStatus.OK)
+  public PersonImportResponse importAll(@RequestBody List<PersonRequest> personRequests) {
+    return personImportService.importAll(personRequests.iterator());
+  }
+
+  @Operation(summary = "Create people in bulk from newline-delimited JSON", responses = {
+      @ApiResponse(responseCode = "200", description = "People imported, with the result of each record up to the first one that is not valid JSON"),
+      @ApiResponse(responseCode = "400", description = "Invalid request body", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+  })
+  @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+  @ResponseStatus(HttpStatus.OK)
+  public PersonImportResponse importAllFromNdjson(InputStream body) throws IOException {
+    try (MappingIterator<PersonRequest> personRequests = objectMapper.readerFor(PersonRequest.class).readValues(body)) {
+      return personImportService.importAll(personRequests);
+    }
+  }
+}
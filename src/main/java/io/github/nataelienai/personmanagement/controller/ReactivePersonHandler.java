@@ -0,0 +1,101 @@
+package io.github.nataelienai.personmanagement.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import io.github.nataelienai.personmanagement.dto.ErrorResponse;
+import io.github.nataelienai.personmanagement.dto.PersonPageResponse;
+import io.github.nataelienai.personmanagement.dto.PersonResponse;
+import io.github.nataelienai.personmanagement.exception.InvalidCursorException;
+import io.github.nataelienai.personmanagement.exception.PersonNotFoundException;
+import io.github.nataelienai.personmanagement.service.ReactivePersonService;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+@RequiredArgsConstructor
+public class ReactivePersonHandler {
+  public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+  private static final String PERSON_ID = "personId";
+  private static final String LIMIT = "limit";
+  private static final int DEFAULT_LIMIT = 20;
+  private static final int MAX_LIMIT = 100;
+
+  private final ReactivePersonService reactivePersonService;
+
+  public RouterFunction<ServerResponse> routes() {
+    return RouterFunctions.route()
+        .GET("/people", this::findAll)
+        .GET("/people/{personId}", this::findById)
+        .GET("/people/{personId}/addresses", this::findAllAddresses)
+        .onError(PersonNotFoundException.class, (exception, request) ->
+            errorResponse(HttpStatus.NOT_FOUND, exception.getMessage()))
+        .onError(InvalidCursorException.class, (exception, request) ->
+            errorResponse(HttpStatus.BAD_REQUEST, exception.getMessage()))
+        .onError(NumberFormatException.class, (exception, request) ->
+            errorResponse(HttpStatus.BAD_REQUEST, "Parameter " + PERSON_ID + " has an invalid value"))
+        .build();
+  }
+
+  public Mono<ServerResponse> findAll(ServerRequest request) {
+    String after = request.queryParam("after").orElse(null);
+    int limit;
+    try {
+      limit = request.queryParam(LIMIT).map(Integer::valueOf).orElse(DEFAULT_LIMIT);
+    } catch (NumberFormatException exception) {
+      return errorResponse(HttpStatus.BAD_REQUEST, "Parameter " + LIMIT + " has an invalid value");
+    }
+    if (limit < 1) {
+      return errorResponse(HttpStatus.BAD_REQUEST, "Limit must be at least 1");
+    }
+    if (limit > MAX_LIMIT) {
+      return errorResponse(HttpStatus.BAD_REQUEST, "Limit must be at most " + MAX_LIMIT);
+    }
+
+    Mono<PersonPageResponse> page = reactivePersonService.findAll(after, limit);
+    if (!request.headers().accept().contains(MediaType.APPLICATION_NDJSON)) {
+      return page.flatMap(personPage -> ServerResponse.ok()
+          .contentType(MediaType.APPLICATION_JSON)
+          .bodyValue(personPage));
+    }
+
+    return page.flatMap(personPage -> ServerResponse.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .headers(headers -> {
+          if (personPage.getNextCursor() != null) {
+            headers.set(NEXT_CURSOR_HEADER, personPage.getNextCursor());
+          }
+        })
+        .body(Flux.fromIterable(personPage.getContent()), PersonResponse.class));
+  }
+
+  public Mono<ServerResponse> findById(ServerRequest request) {
+    return Mono.fromCallable(() -> Long.valueOf(request.pathVariable(PERSON_ID)))
+        .flatMap(reactivePersonService::findById)
+        .flatMap(person -> ServerResponse.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(person));
+  }
+
+  public Mono<ServerResponse> findAllAddresses(ServerRequest request) {
+    return Mono.fromCallable(() -> Long.valueOf(request.pathVariable(PERSON_ID)))
+        .flatMapMany(reactivePersonService::findAllByPersonId)
+        .collectList()
+        .flatMap(addresses -> ServerResponse.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(addresses));
+  }
+
+  private static Mono<ServerResponse> errorResponse(HttpStatus status, String message) {
+    return ServerResponse.status(status)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(new ErrorResponse(status.value(), message));
+  }
+}
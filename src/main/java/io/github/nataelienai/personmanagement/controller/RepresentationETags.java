@@ -0,0 +1,66 @@
+package io.github.nataelienai.personmanagement.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import io.github.nataelienai.personmanagement.config.ProtobufHttpMessageConverter;
+
+final class RepresentationETags {
+  private static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+  private static final List<MediaType> REPRESENTATION_MEDIA_TYPES = List.of(
+      MediaType.APPLICATION_JSON,
+      MediaType.APPLICATION_CBOR,
+      APPLICATION_SMILE,
+      ProtobufHttpMessageConverter.APPLICATION_X_PROTOBUF,
+      ProtobufHttpMessageConverter.APPLICATION_PROTOBUF);
+
+  private RepresentationETags() {
+  }
+
+  // Two representations of the same version, such as JSON and CBOR or two field sets, must not share a strong ETag
+  static String of(Long version, WebRequest webRequest, Object variant) {
+    MediaType mediaType = negotiateMediaType(webRequest.getHeader(HttpHeaders.ACCEPT));
+    String representation = mediaType + ";" + variant;
+    return version + "-" + Integer.toHexString(representation.hashCode());
+  }
+
+  static Long parseVersion(String eTag) {
+    if (eTag.length() < 2 || !eTag.startsWith("\"") || !eTag.endsWith("\"")) {
+      return null;
+    }
+
+    String opaqueTag = eTag.substring(1, eTag.length() - 1);
+    int separatorIndex = opaqueTag.indexOf('-');
+    try {
+      return Long.valueOf(separatorIndex < 0 ? opaqueTag : opaqueTag.substring(0, separatorIndex));
+    } catch (NumberFormatException exception) {
+      return null;
+    }
+  }
+
+  private static MediaType negotiateMediaType(String accept) {
+    List<MediaType> acceptableMediaTypes;
+    try {
+      acceptableMediaTypes = new ArrayList<>(
+          StringUtils.hasText(accept) ? MediaType.parseMediaTypes(accept) : List.of(MediaType.ALL));
+    } catch (InvalidMediaTypeException exception) {
+      return MediaType.APPLICATION_JSON;
+    }
+
+    MediaType.sortBySpecificityAndQuality(acceptableMediaTypes);
+    for (MediaType acceptableMediaType : acceptableMediaTypes) {
+      for (MediaType mediaType : REPRESENTATION_MEDIA_TYPES) {
+        if (acceptableMediaType.getQualityValue() > 0 && acceptableMediaType.isCompatibleWith(mediaType)) {
+          return mediaType;
+        }
+      }
+    }
+    return MediaType.APPLICATION_JSON;
+  }
+}
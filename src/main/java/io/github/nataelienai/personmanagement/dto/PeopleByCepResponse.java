@@ -0,0 +1,17 @@
+package io.github.nataelienai.personmanagement.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class PeopleByCepResponse {
+  private String cep;
+  private List<PersonResponse> people;
+}
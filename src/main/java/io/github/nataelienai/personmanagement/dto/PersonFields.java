@@ -0,0 +1,43 @@
+package io.github.nataelienai.personmanagement.dto;
+
+import java.util.Collection;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+@EqualsAndHashCode
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PersonFields {
+  public static final String NAMES_PATTERN = "^(id|name|dateOfBirth|addresses)$";
+  public static final PersonFields ALL = new PersonFields(true, true, true);
+
+  private final boolean name;
+  private final boolean dateOfBirth;
+  private final boolean addresses;
+
+  public static PersonFields of(Collection<String> fields) {
+    if (fields == null || fields.isEmpty()) {
+      return ALL;
+    }
+    return new PersonFields(fields.contains("name"), fields.contains("dateOfBirth"), fields.contains("addresses"));
+  }
+
+  public boolean includesName() {
+    return name;
+  }
+
+  public boolean includesDateOfBirth() {
+    return dateOfBirth;
+  }
+
+  public boolean includesAddresses() {
+    return addresses;
+  }
+
+  public boolean includesAll() {
+    return name && dateOfBirth && addresses;
+  }
+}
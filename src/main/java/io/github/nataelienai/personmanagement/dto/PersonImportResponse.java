@@ -0,0 +1,19 @@
+package io.github.nataelienai.personmanagement.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonImportResponse {
+  private int createdCount;
+  private int invalidCount;
+  private int failedCount;
+  private List<PersonImportResult> results;
+}
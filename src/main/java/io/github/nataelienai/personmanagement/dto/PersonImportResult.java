@@ -0,0 +1,19 @@
+package io.github.nataelienai.personmanagement.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonImportResult {
+  private int index;
+  private PersonImportStatus status;
+  private Long id;
+  private Map<String, String> fieldErrors;
+}
@@ -0,0 +1,7 @@
+package io.github.nataelienai.personmanagement.dto;
+
+public enum PersonImportStatus {
+  CREATED,
+  INVALID,
+  FAILED
+}
@@ -0,0 +1,16 @@
+package io.github.nataelienai.personmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonLookupResult {
+  private Long id;
+  private PersonLookupStatus status;
+  private PersonResponse person;
+}
@@ -0,0 +1,6 @@
+package io.github.nataelienai.personmanagement.dto;
+
+public enum PersonLookupStatus {
+  FOUND,
+  NOT_FOUND
+}
@@ -2,11 +2,15 @@ package io.github.nataelienai.personmanagement.dto;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+@JsonInclude(Include.NON_NULL)
 @Getter
 @EqualsAndHashCode
 @NoArgsConstructor
@@ -0,0 +1,20 @@
+package io.github.nataelienai.personmanagement.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonSearchRequest {
+  private String name;
+  private LocalDate bornFrom;
+  private LocalDate bornTo;
+  private String city;
+  private String cep;
+}
@@ -0,0 +1,17 @@
+package io.github.nataelienai.personmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonSummaryResponse {
+  private Long id;
+  private String name;
+  private String dateOfBirth;
+  private AddressResponse mainAddress;
+}
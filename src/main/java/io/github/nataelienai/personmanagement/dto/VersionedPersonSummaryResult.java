@@ -0,0 +1,15 @@
+package io.github.nataelienai.personmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class VersionedPersonSummaryResult {
+  private Long version;
+  private PersonSummaryResponse summary;
+}
@@ -5,24 +5,60 @@ import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import io.github.nataelienai.personmanagement.dto.AddressResponse;
+import io.github.nataelienai.personmanagement.dto.PersonFields;
 import io.github.nataelienai.personmanagement.dto.PersonResponse;
+import io.github.nataelienai.personmanagement.dto.PersonSummaryResponse;
 import io.github.nataelienai.personmanagement.entity.Person;
+import io.github.nataelienai.personmanagement.repository.PersonSummaryView;
 
 public class PersonMapper {
   private PersonMapper() {
   }
 
   public static PersonResponse mapToResponse(Person person, DateTimeFormatter formatter) {
+    return mapToResponse(person, formatter, PersonFields.ALL);
+  }
+
+  public static PersonResponse mapToResponse(Person person, DateTimeFormatter formatter, PersonFields fields) {
     return new PersonResponse(
         person.getId(),
-        person.getName(),
-        person.getDateOfBirth().format(formatter),
-        AddressMapper.mapToResponseList(person.getAddresses()));
+        fields.includesName() ? person.getName() : null,
+        fields.includesDateOfBirth() ? person.getDateOfBirth().format(formatter) : null,
+        fields.includesAddresses() ? AddressMapper.mapToResponseList(person.getAddresses()) : null);
   }
 
   public static List<PersonResponse> mapToResponseList(Collection<Person> people, DateTimeFormatter formatter) {
+    return mapToResponseList(people, formatter, PersonFields.ALL);
+  }
+
+  public static List<PersonResponse> mapToResponseList(Collection<Person> people, DateTimeFormatter formatter,
+      PersonFields fields) {
     return people.stream()
-        .map(person -> mapToResponse(person, formatter))
+        .map(person -> mapToResponse(person, formatter, fields))
+        .collect(Collectors.toList());
+  }
+
+  public static PersonSummaryResponse mapToSummaryResponse(PersonSummaryView summary, DateTimeFormatter formatter) {
+    AddressResponse mainAddress = summary.getMainAddressId() == null ? null : new AddressResponse(
+        summary.getMainAddressId(),
+        summary.getMainAddressCep(),
+        summary.getMainAddressCity(),
+        summary.getMainAddressStreet(),
+        summary.getMainAddressNumber(),
+        true);
+
+    return new PersonSummaryResponse(
+        summary.getId(),
+        summary.getName(),
+        summary.getDateOfBirth().format(formatter),
+        mainAddress);
+  }
+
+  public static List<PersonSummaryResponse> mapToSummaryResponseList(Collection<PersonSummaryView> summaries,
+      DateTimeFormatter formatter) {
+    return summaries.stream()
+        .map(summary -> mapToSummaryResponse(summary, formatter))
         .collect(Collectors.toList());
   }
 }
@@ -1,14 +1,25 @@
 package io.github.nataelienai.personmanagement.entity;
 
+import javax.persistence.Cacheable;
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 
-import lombok.AllArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -18,15 +29,24 @@ import lombok.Setter;
 @Setter
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @NoArgsConstructor
-@AllArgsConstructor
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_address_city", columnList = "city"),
+    @Index(name = "idx_address_cep_number", columnList = "cepNumber")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_address_main_person_id", columnNames = "main_person_id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Address {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "address_sequence")
+  @SequenceGenerator(name = "address_sequence", sequenceName = "address_sequence", allocationSize = 50)
   @EqualsAndHashCode.Include
   private Long id;
 
   private String cep;
+  private Integer cepNumber;
   private String city;
   private String street;
   private Integer number;
@@ -36,6 +56,24 @@ public class Address {
   @JoinColumn(name = "person_id", nullable = false)
   private Person person;
 
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  @Column(name = "main_person_id", insertable = false, updatable = false,
+      columnDefinition = "bigint generated always as (case when main then person_id end)")
+  private Long mainPersonId;
+
+  public Address(Long id, String cep, Integer cepNumber, String city, String street, Integer number, Boolean main,
+      Person person) {
+    this.id = id;
+    this.cep = cep;
+    this.cepNumber = cepNumber;
+    this.city = city;
+    this.street = street;
+    this.number = number;
+    this.main = main;
+    this.person = person;
+  }
+
   public Address(String cep, String city, String street, Integer number, Boolean main, Person person) {
     this.cep = cep;
     this.city = city;
@@ -44,4 +82,14 @@ public class Address {
     this.main = main;
     this.person = person;
   }
+
+  public static Integer toCepNumber(String cep) {
+    return Integer.valueOf(cep.replace("-", ""));
+  }
+
+  @PrePersist
+  @PreUpdate
+  void updateCepNumber() {
+    cepNumber = toCepNumber(cep);
+  }
 }
@@ -2,13 +2,28 @@ package io.github.nataelienai.personmanagement.entity;
 
 import java.time.LocalDate;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
 import javax.persistence.OneToMany;
+import javax.persistence.OneToOne;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -22,20 +37,47 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_person_normalized_name", columnList = "normalizedName"),
+    @Index(name = "idx_person_date_of_birth", columnList = "dateOfBirth")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Person {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "person_sequence")
+  @SequenceGenerator(name = "person_sequence", sequenceName = "person_sequence", allocationSize = 50)
   @EqualsAndHashCode.Include
   private Long id;
 
   private String name;
+  private String normalizedName;
   private LocalDate dateOfBirth;
 
+  @Version
+  private Long version;
+
+  @OneToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "main_address_id")
+  private Address mainAddress;
+
   @OneToMany(mappedBy = "person")
+  @BatchSize(size = 100)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
   private Set<Address> addresses = new HashSet<>();
 
   public Person(String name, LocalDate dateOfBirth) {
     this.name = name;
     this.dateOfBirth = dateOfBirth;
   }
+
+  public static String normalizeName(String name) {
+    return name.toLowerCase(Locale.ROOT);
+  }
+
+  @PrePersist
+  @PreUpdate
+  void updateNormalizedName() {
+    normalizedName = normalizeName(name);
+  }
 }
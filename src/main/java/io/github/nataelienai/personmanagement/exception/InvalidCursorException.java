@@ -0,0 +1,7 @@
+package io.github.nataelienai.personmanagement.exception;
+
+public class InvalidCursorException extends RuntimeException {
+  public InvalidCursorException(String cursor) {
+    super("Cursor " + cursor + " is invalid");
+  }
+}
@@ -0,0 +1,7 @@
+package io.github.nataelienai.personmanagement.exception;
+
+public class MissingSearchFilterException extends RuntimeException {
+  public MissingSearchFilterException() {
+    super("At least one search filter is required");
+  }
+}
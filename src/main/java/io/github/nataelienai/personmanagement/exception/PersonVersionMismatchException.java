@@ -0,0 +1,7 @@
+package io.github.nataelienai.personmanagement.exception;
+
+public class PersonVersionMismatchException extends RuntimeException {
+  public PersonVersionMismatchException(Long id) {
+    super("Person " + id + " does not match the given version");
+  }
+}
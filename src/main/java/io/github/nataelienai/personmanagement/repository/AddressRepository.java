@@ -1,8 +1,16 @@
 package io.github.nataelienai.personmanagement.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import io.github.nataelienai.personmanagement.entity.Address;
 
 public interface AddressRepository extends JpaRepository<Address, Long> {
+  @Modifying
+  @Query("update Address a set a.main = case when a.id = :addressId then true else false end "
+      + "where a.person.id = :personId "
+      + "and exists (select b.id from Address b where b.id = :addressId and b.person.id = :personId)")
+  int setMainAddress(@Param("personId") Long personId, @Param("addressId") Long addressId);
 }
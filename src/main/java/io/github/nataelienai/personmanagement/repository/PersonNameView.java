@@ -0,0 +1,7 @@
+package io.github.nataelienai.personmanagement.repository;
+
+public interface PersonNameView {
+  Long getId();
+
+  String getName();
+}
@@ -1,8 +1,61 @@
 package io.github.nataelienai.personmanagement.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import io.github.nataelienai.personmanagement.entity.Person;
 
-public interface PersonRepository extends JpaRepository<Person, Long> {
+public interface PersonRepository extends JpaRepository<Person, Long>, PersonSearchRepository {
+  List<Person> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+  @Query("select new io.github.nataelienai.personmanagement.repository.PersonSummaryView("
+      + "p.id, p.name, p.dateOfBirth, a.id, a.cep, a.city, a.street, a.number, p.version) "
+      + "from Person p left join p.mainAddress a "
+      + "where p.id > :id order by p.id")
+  List<PersonSummaryView> findSummariesByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
+  @Query("select new io.github.nataelienai.personmanagement.repository.PersonSummaryView("
+      + "p.id, p.name, p.dateOfBirth, a.id, a.cep, a.city, a.street, a.number, p.version) "
+      + "from Person p left join p.mainAddress a where p.id = :id")
+  Optional<PersonSummaryView> findSummaryById(@Param("id") Long id);
+
+  @EntityGraph(attributePaths = "addresses")
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+  Optional<Person> findWithAddressesById(Long id);
+
+  List<Person> findAllByIdIn(Collection<Long> ids);
+
+  @EntityGraph(attributePaths = "addresses")
+  @Query("select distinct p from Person p where p.id in :ids")
+  List<Person> findAllWithAddressesByIdIn(@Param("ids") Collection<Long> ids);
+
+  @Query("select p from Person p where p.id > :id and p.id in "
+      + "(select a.person.id from Address a where a.cepNumber in :cepNumbers) order by p.id")
+  List<Person> findByCepNumberInAndIdGreaterThan(@Param("cepNumbers") Collection<Integer> cepNumbers,
+      @Param("id") Long id, Pageable pageable);
+
+  @QueryHints({
+      @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+      @QueryHint(name = HINT_READONLY, value = "true")
+  })
+  Stream<Person> streamAllByOrderByIdAsc();
+
+  @Query("select p.id as id, p.name as name from Person p order by p.id")
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+  Stream<PersonNameView> streamAllNames();
 }
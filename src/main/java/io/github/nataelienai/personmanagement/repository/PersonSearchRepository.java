@@ -0,0 +1,11 @@
+package io.github.nataelienai.personmanagement.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import io.github.nataelienai.personmanagement.entity.Person;
+
+public interface PersonSearchRepository {
+  List<Person> findAllOrderByIdAsc(Specification<Person> specification, int limit);
+}
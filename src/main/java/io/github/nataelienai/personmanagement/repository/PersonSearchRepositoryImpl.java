@@ -0,0 +1,33 @@
+package io.github.nataelienai.personmanagement.repository;
+
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import io.github.nataelienai.personmanagement.entity.Person;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+class PersonSearchRepositoryImpl implements PersonSearchRepository {
+  private final EntityManager entityManager;
+
+  @Override
+  public List<Person> findAllOrderByIdAsc(Specification<Person> specification, int limit) {
+    CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Person> query = criteriaBuilder.createQuery(Person.class);
+    Root<Person> person = query.from(Person.class);
+
+    query.select(person)
+        .where(specification.toPredicate(person, query, criteriaBuilder))
+        .orderBy(criteriaBuilder.asc(person.get("id")));
+
+    return entityManager.createQuery(query)
+        .setMaxResults(limit)
+        .getResultList();
+  }
+}
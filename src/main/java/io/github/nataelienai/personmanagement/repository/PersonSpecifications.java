@@ -0,0 +1,58 @@
+package io.github.nataelienai.personmanagement.repository;
+
+import java.time.LocalDate;
+
+import javax.persistence.criteria.Join;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import io.github.nataelienai.personmanagement.entity.Address;
+import io.github.nataelienai.personmanagement.entity.Person;
+
+public class PersonSpecifications {
+  private static final char LIKE_ESCAPE = '\\';
+
+  private PersonSpecifications() {
+  }
+
+  public static Specification<Person> idGreaterThan(Long id) {
+    return (person, query, criteriaBuilder) -> criteriaBuilder.greaterThan(person.get("id"), id);
+  }
+
+  public static Specification<Person> nameStartsWith(String prefix) {
+    String pattern = escapeLike(Person.normalizeName(prefix)) + "%";
+    return (person, query, criteriaBuilder) -> criteriaBuilder.like(person.get("normalizedName"), pattern, LIKE_ESCAPE);
+  }
+
+  public static Specification<Person> bornOnOrAfter(LocalDate date) {
+    return (person, query, criteriaBuilder) -> criteriaBuilder.greaterThanOrEqualTo(person.get("dateOfBirth"), date);
+  }
+
+  public static Specification<Person> bornOnOrBefore(LocalDate date) {
+    return (person, query, criteriaBuilder) -> criteriaBuilder.lessThanOrEqualTo(person.get("dateOfBirth"), date);
+  }
+
+  public static Specification<Person> hasAddress(String city, String cep) {
+    return (person, query, criteriaBuilder) -> {
+      query.distinct(true);
+      Join<Person, Address> address = person.join("addresses");
+
+      if (city == null) {
+        return criteriaBuilder.equal(address.get("cepNumber"), Address.toCepNumber(cep));
+      }
+      if (cep == null) {
+        return criteriaBuilder.equal(address.get("city"), city);
+      }
+      return criteriaBuilder.and(
+          criteriaBuilder.equal(address.get("city"), city),
+          criteriaBuilder.equal(address.get("cepNumber"), Address.toCepNumber(cep)));
+    };
+  }
+
+  private static String escapeLike(String value) {
+    return value
+        .replace("\\", "\\\\")
+        .replace("%", "\\%")
+        .replace("_", "\\_");
+  }
+}
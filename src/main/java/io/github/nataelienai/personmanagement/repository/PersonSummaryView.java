@@ -0,0 +1,22 @@
+package io.github.nataelienai.personmanagement.repository;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class PersonSummaryView {
+  private final Long id;
+  private final String name;
+  private final LocalDate dateOfBirth;
+  private final Long mainAddressId;
+  private final String mainAddressCep;
+  private final String mainAddressCity;
+  private final String mainAddressStreet;
+  private final Integer mainAddressNumber;
+  private final Long version;
+}
@@ -0,0 +1,75 @@
+package io.github.nataelienai.personmanagement.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import io.github.nataelienai.personmanagement.entity.Address;
+import io.github.nataelienai.personmanagement.entity.Person;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactivePersonRepository {
+  private static final String SELECT_PEOPLE_WITH_ADDRESSES = "select p.id as person_id, p.name, p.date_of_birth,"
+      + " a.id as address_id, a.cep, a.city, a.street, a.number, a.main";
+
+  private final DatabaseClient databaseClient;
+
+  public Flux<Person> findAllWithAddresses(Long afterId, int limit) {
+    Flux<Address> rows = databaseClient.sql(SELECT_PEOPLE_WITH_ADDRESSES
+            + " from (select * from person where id > :afterId order by id limit :limit) p"
+            + " left join address a on a.person_id = p.id order by p.id")
+        .bind("afterId", afterId)
+        .bind("limit", limit)
+        .map((row, metadata) -> mapRow(row))
+        .all();
+    return groupByPerson(rows);
+  }
+
+  public Mono<Person> findWithAddressesById(Long id) {
+    Flux<Address> rows = databaseClient.sql(SELECT_PEOPLE_WITH_ADDRESSES
+            + " from person p left join address a on a.person_id = p.id where p.id = :id")
+        .bind("id", id)
+        .map((row, metadata) -> mapRow(row))
+        .all();
+    return groupByPerson(rows).next();
+  }
+
+  private static Flux<Person> groupByPerson(Flux<Address> rows) {
+    return rows
+        .bufferUntilChanged(address -> address.getPerson().getId())
+        .map(ReactivePersonRepository::toPerson);
+  }
+
+  private static Person toPerson(List<Address> rows) {
+    Person person = rows.get(0).getPerson();
+    for (Address address : rows) {
+      if (address.getId() != null) {
+        address.setPerson(person);
+        person.getAddresses().add(address);
+      }
+    }
+    return person;
+  }
+
+  private static Address mapRow(Row row) {
+    Person person = new Person(row.get("name", String.class), row.get("date_of_birth", LocalDate.class));
+    person.setId(row.get("person_id", Long.class));
+
+    return new Address(
+        row.get("address_id", Long.class),
+        row.get("cep", String.class),
+        null,
+        row.get("city", String.class),
+        row.get("street", String.class),
+        row.get("number", Integer.class),
+        row.get("main", Boolean.class),
+        person);
+  }
+}
@@ -2,11 +2,22 @@ package io.github.nataelienai.personmanagement.service;
 
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import io.github.nataelienai.personmanagement.config.CacheConfig;
+import io.github.nataelienai.personmanagement.config.MetricsConfig;
 import io.github.nataelienai.personmanagement.dto.AddressRequest;
 import io.github.nataelienai.personmanagement.dto.AddressResponse;
+import io.github.nataelienai.personmanagement.dto.VersionedAddressesResult;
 import io.github.nataelienai.personmanagement.dto.mapper.AddressMapper;
 import io.github.nataelienai.personmanagement.entity.Address;
 import io.github.nataelienai.personmanagement.entity.Person;
@@ -14,53 +25,93 @@ import io.github.nataelienai.personmanagement.exception.AddressNotFoundException
 import io.github.nataelienai.personmanagement.exception.PersonNotFoundException;
 import io.github.nataelienai.personmanagement.repository.AddressRepository;
 import io.github.nataelienai.personmanagement.repository.PersonRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
+@Timed(MetricsConfig.SERVICE_INVOCATIONS_METRIC)
 @RequiredArgsConstructor
 @Service
 public class AddressService {
   private final AddressRepository addressRepository;
   private final PersonRepository personRepository;
+  private final EntityManager entityManager;
 
+  @Caching(evict = {
+      @CacheEvict(cacheNames = CacheConfig.PEOPLE_CACHE, key = "#personId"),
+      @CacheEvict(cacheNames = CacheConfig.PERSON_ADDRESSES_CACHE, key = "#personId")
+  })
+  @Transactional
   public AddressResponse create(Long personId, AddressRequest addressRequest) {
-    Person person = personRepository.findById(personId)
-        .orElseThrow(() -> new PersonNotFoundException(personId));
+    Person person = findPersonIncrementingVersion(personId);
 
-    Address address = new Address(addressRequest.getCep(), addressRequest.getCity(), addressRequest.getStreet(),
-        addressRequest.getNumber(), false, person);
-
-    Address savedAddress = addressRepository.save(address);
+    Address savedAddress = addressRepository.save(createAddress(addressRequest, person));
     return AddressMapper.mapToResponse(savedAddress);
   }
 
-  public List<AddressResponse> findAllByPersonId(Long personId) {
-    Person person = personRepository.findById(personId)
+  @Caching(evict = {
+      @CacheEvict(cacheNames = CacheConfig.PEOPLE_CACHE, key = "#personId"),
+      @CacheEvict(cacheNames = CacheConfig.PERSON_ADDRESSES_CACHE, key = "#personId")
+  })
+  @Transactional
+  public List<AddressResponse> createAll(Long personId, List<AddressRequest> addressRequests) {
+    Person person = findPersonIncrementingVersion(personId);
+
+    List<Address> addresses = addressRequests.stream()
+        .map(addressRequest -> createAddress(addressRequest, person))
+        .collect(Collectors.toList());
+
+    List<Address> savedAddresses = addressRepository.saveAll(addresses);
+    return AddressMapper.mapToResponseList(savedAddresses);
+  }
+
+  @Cacheable(cacheNames = CacheConfig.PERSON_ADDRESSES_CACHE, key = "#personId")
+  @Transactional(readOnly = true)
+  public VersionedAddressesResult findAllByPersonId(Long personId) {
+    Person person = personRepository.findWithAddressesById(personId)
         .orElseThrow(() -> new PersonNotFoundException(personId));
 
     Set<Address> addresses = person.getAddresses();
-    return AddressMapper.mapToResponseList(addresses);
+    return new VersionedAddressesResult(person.getVersion(), AddressMapper.mapToResponseList(addresses));
   }
 
+  @Caching(evict = {
+      @CacheEvict(cacheNames = CacheConfig.PEOPLE_CACHE, key = "#personId"),
+      @CacheEvict(cacheNames = CacheConfig.PERSON_ADDRESSES_CACHE, key = "#personId")
+  })
+  @Transactional
   public void setPersonAddressAsMain(Long personId, Long addressId) {
-    Person person = personRepository.findById(personId)
-        .orElseThrow(() -> new PersonNotFoundException(personId));
+    Person person = findPerson(personId);
 
-    Set<Address> addresses = person.getAddresses();
-    boolean addressFound = false;
-
-    for (Address address : addresses) {
-      if (addressId.equals(address.getId())) {
-        addressFound = true;
-        address.setMain(true);
-      } else {
-        address.setMain(false);
-      }
+    int updatedCount = addressRepository.setMainAddress(personId, addressId);
+    if (updatedCount == 0) {
+      throw new AddressNotFoundException(addressId, personId);
     }
 
-    if (!addressFound) {
-      throw new AddressNotFoundException(addressId, personId);
+    Address mainAddress = person.getMainAddress();
+    if (mainAddress != null && mainAddress.getId().equals(addressId)) {
+      entityManager.lock(person, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+    } else {
+      person.setMainAddress(addressRepository.getReferenceById(addressId));
     }
+  }
+
+  private Person findPerson(Long personId) {
+    return personRepository.findById(personId)
+        .orElseThrow(() -> new PersonNotFoundException(personId));
+  }
+
+  // A real lookup instead of getReferenceById(): an unknown id has to fail as a 404 before any insert, and the
+  // person usually comes from the second-level cache anyway. The version is bumped on the managed entity, with
+  // a checked "where version = ?" update at flush, because a bulk HQL update would evict the whole Person region
+  private Person findPersonIncrementingVersion(Long personId) {
+    Person person = findPerson(personId);
+    entityManager.lock(person, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
 
-    addressRepository.saveAll(addresses);
+    return person;
+  }
+
+  private Address createAddress(AddressRequest addressRequest, Person person) {
+    return new Address(addressRequest.getCep(), addressRequest.getCity(), addressRequest.getStreet(),
+        addressRequest.getNumber(), false, person);
   }
 }
@@ -0,0 +1,77 @@
+package io.github.nataelienai.personmanagement.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.github.nataelienai.personmanagement.config.MetricsConfig;
+import io.github.nataelienai.personmanagement.dto.PersonSuggestionResponse;
+import io.github.nataelienai.personmanagement.repository.PersonNameView;
+import io.github.nataelienai.personmanagement.repository.PersonRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+@Timed(MetricsConfig.SERVICE_INVOCATIONS_METRIC)
+@RequiredArgsConstructor
+@Service
+public class PersonAutocompleteService {
+  private final PersonRepository personRepository;
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private PersonNameIndex index = new PersonNameIndex();
+  private List<PersonNameChangedEvent> changesDuringLoad;
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public void load() {
+    lock.writeLock().lock();
+    try {
+      changesDuringLoad = new ArrayList<>();
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    PersonNameIndex loadedIndex = new PersonNameIndex();
+    try (Stream<PersonNameView> names = personRepository.streamAllNames()) {
+      names.forEach(name -> loadedIndex.put(name.getId(), name.getName()));
+    }
+
+    lock.writeLock().lock();
+    try {
+      changesDuringLoad.forEach(change -> loadedIndex.put(change.getId(), change.getName()));
+      changesDuringLoad = null;
+      index = loadedIndex;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPersonNameChanged(PersonNameChangedEvent event) {
+    lock.writeLock().lock();
+    try {
+      index.put(event.getId(), event.getName());
+      if (changesDuringLoad != null) {
+        changesDuringLoad.add(event);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public List<PersonSuggestionResponse> autocomplete(String query, int limit) {
+    lock.readLock().lock();
+    try {
+      return index.search(query, limit);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+}
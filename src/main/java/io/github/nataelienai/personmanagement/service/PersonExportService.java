@@ -0,0 +1,74 @@
+package io.github.nataelienai.personmanagement.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.nataelienai.personmanagement.config.MetricsConfig;
+import io.github.nataelienai.personmanagement.dto.mapper.PersonMapper;
+import io.github.nataelienai.personmanagement.entity.Person;
+import io.github.nataelienai.personmanagement.repository.PersonRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+@Timed(MetricsConfig.SERVICE_INVOCATIONS_METRIC)
+@RequiredArgsConstructor
+@Service
+public class PersonExportService {
+  private static final int CHUNK_SIZE = 100;
+  private static final int CLEAR_INTERVAL = 5000;
+
+  private final PersonRepository personRepository;
+  private final EntityManager entityManager;
+  private final ObjectMapper objectMapper;
+
+  @Transactional(readOnly = true)
+  public void exportAll(OutputStream outputStream) throws IOException {
+    // Set on the session rather than as a query hint, since streamed rows and their address collections are
+    // hydrated after the query has returned. A full scan must not fill or churn the second-level cache.
+    entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+
+    try (Stream<Person> people = personRepository.streamAllByOrderByIdAsc();
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+      generator.setRootValueSeparator(null);
+
+      Iterator<Person> iterator = people.iterator();
+      List<Person> chunk = new ArrayList<>(CHUNK_SIZE);
+      int exportedCount = 0;
+
+      while (iterator.hasNext()) {
+        chunk.add(iterator.next());
+
+        if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+          writeChunk(generator, chunk);
+          exportedCount += chunk.size();
+          chunk.clear();
+
+          if (exportedCount % CLEAR_INTERVAL == 0) {
+            entityManager.clear();
+          }
+        }
+      }
+    }
+  }
+
+  private void writeChunk(JsonGenerator generator, List<Person> chunk) throws IOException {
+    for (Person person : chunk) {
+      generator.writeObject(PersonMapper.mapToResponse(person, PersonService.DATE_FORMATTER));
+      generator.writeRaw('\n');
+    }
+  }
+}
@@ -0,0 +1,161 @@
+package io.github.nataelienai.personmanagement.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+
+import io.github.nataelienai.personmanagement.config.BulkImportProperties;
+import io.github.nataelienai.personmanagement.config.MetricsConfig;
+import io.github.nataelienai.personmanagement.dto.PersonImportResponse;
+import io.github.nataelienai.personmanagement.dto.PersonImportResult;
+import io.github.nataelienai.personmanagement.dto.PersonImportStatus;
+import io.github.nataelienai.personmanagement.dto.PersonRequest;
+import io.github.nataelienai.personmanagement.entity.Person;
+import io.github.nataelienai.personmanagement.exception.DateOfBirthParseException;
+import io.github.nataelienai.personmanagement.repository.PersonRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+@Timed(MetricsConfig.SERVICE_INVOCATIONS_METRIC)
+@RequiredArgsConstructor
+@Service
+public class PersonImportService {
+  private static final Logger logger = LoggerFactory.getLogger(PersonImportService.class);
+
+  private final PersonRepository personRepository;
+  private final EntityManager entityManager;
+  private final Validator validator;
+  private final BulkImportProperties bulkImportProperties;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+
+  public PersonImportResponse importAll(Iterator<PersonRequest> personRequests) {
+    List<PersonImportResult> results = new ArrayList<>();
+    List<Person> chunk = new ArrayList<>();
+    List<Integer> chunkIndexes = new ArrayList<>();
+    int createdCount = 0;
+    int failedCount = 0;
+    int index = 0;
+
+    while (true) {
+      PersonRequest personRequest;
+      try {
+        if (!personRequests.hasNext()) {
+          break;
+        }
+        personRequest = personRequests.next();
+      } catch (RuntimeException exception) {
+        if (!isUnreadableRecord(exception)) {
+          throw exception;
+        }
+        // The reader cannot resynchronize on the next record reliably, so the import stops at this one. The chunks
+        // saved before it stay committed and are reported as created.
+        results.add(new PersonImportResult(index, PersonImportStatus.FAILED, null,
+            Map.of("record", "Record has an invalid JSON format")));
+        failedCount++;
+        break;
+      }
+
+      Map<String, String> fieldErrors = new HashMap<>();
+      Person person = toPerson(personRequest, fieldErrors);
+
+      if (person == null) {
+        results.add(new PersonImportResult(index, PersonImportStatus.INVALID, null, fieldErrors));
+      } else {
+        results.add(null);
+        chunk.add(person);
+        chunkIndexes.add(index);
+      }
+      index++;
+
+      if (chunk.size() == bulkImportProperties.getChunkSize()) {
+        if (saveChunk(chunk, chunkIndexes, results)) {
+          createdCount += chunk.size();
+        } else {
+          failedCount += chunk.size();
+        }
+        chunk = new ArrayList<>();
+        chunkIndexes = new ArrayList<>();
+      }
+    }
+
+    if (!chunk.isEmpty()) {
+      if (saveChunk(chunk, chunkIndexes, results)) {
+        createdCount += chunk.size();
+      } else {
+        failedCount += chunk.size();
+      }
+    }
+
+    int invalidCount = results.size() - createdCount - failedCount;
+    return new PersonImportResponse(createdCount, invalidCount, failedCount, results);
+  }
+
+  private static boolean isUnreadableRecord(RuntimeException exception) {
+    return exception instanceof RuntimeJsonMappingException || exception.getCause() instanceof JsonProcessingException;
+  }
+
+  private Person toPerson(PersonRequest personRequest, Map<String, String> fieldErrors) {
+    if (personRequest == null) {
+      fieldErrors.put("person", "Person is required");
+      return null;
+    }
+
+    for (ConstraintViolation<PersonRequest> violation : validator.validate(personRequest)) {
+      fieldErrors.put(violation.getPropertyPath().toString(), violation.getMessage());
+    }
+    if (!fieldErrors.isEmpty()) {
+      return null;
+    }
+
+    try {
+      return new Person(personRequest.getName(), PersonService.parseDateOfBirth(personRequest.getDateOfBirth()));
+    } catch (DateOfBirthParseException exception) {
+      fieldErrors.put("dateOfBirth", exception.getMessage());
+      return null;
+    }
+  }
+
+  private boolean saveChunk(List<Person> chunk, List<Integer> chunkIndexes, List<PersonImportResult> results) {
+    List<Person> savedPeople;
+    try {
+      savedPeople = transactionTemplate.execute(status -> {
+        List<Person> people = personRepository.saveAll(chunk);
+        entityManager.flush();
+        entityManager.clear();
+        return people;
+      });
+    } catch (DataAccessException | PersistenceException | TransactionException exception) {
+      logger.warn("Failed to import a chunk of {} people, it was rolled back", chunk.size(), exception);
+      chunkIndexes.forEach(index -> results.set(index,
+          new PersonImportResult(index, PersonImportStatus.FAILED, null, null)));
+      return false;
+    }
+
+    for (int i = 0; i < savedPeople.size(); i++) {
+      Person savedPerson = savedPeople.get(i);
+      int index = chunkIndexes.get(i);
+      results.set(index, new PersonImportResult(index, PersonImportStatus.CREATED, savedPerson.getId(), null));
+      eventPublisher.publishEvent(new PersonNameChangedEvent(savedPerson.getId(), savedPerson.getName()));
+    }
+    return true;
+  }
+}
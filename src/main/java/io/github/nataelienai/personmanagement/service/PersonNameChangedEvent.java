@@ -0,0 +1,13 @@
+package io.github.nataelienai.personmanagement.service;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class PersonNameChangedEvent {
+  private Long id;
+  private String name;
+}
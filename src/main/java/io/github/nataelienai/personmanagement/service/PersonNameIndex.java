@@ -0,0 +1,271 @@
+package io.github.nataelienai.personmanagement.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import io.github.nataelienai.personmanagement.dto.PersonSuggestionResponse;
+
+class PersonNameIndex {
+  private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+  private static final char WORD_START = ' ';
+  private static final char NO_CHAR = '\0';
+  private static final int INITIAL_CAPACITY = 1024;
+  private static final int INITIAL_POSTING_CAPACITY = 4;
+  private static final int MIN_DOCUMENTS_TO_COMPACT = 1024;
+
+  private long[] ids = new long[INITIAL_CAPACITY];
+  private String[] names = new String[INITIAL_CAPACITY];
+  private String[] normalizedNames = new String[INITIAL_CAPACITY];
+  private int documentCount;
+  private final BitSet deletedDocuments = new BitSet();
+  private int deletedCount;
+  private final LongIntHashMap documentsById = new LongIntHashMap();
+
+  private final LongIntHashMap postingSlotsByKey = new LongIntHashMap();
+  private int[][] postings = new int[INITIAL_CAPACITY][];
+  private int[] postingSizes = new int[INITIAL_CAPACITY];
+  private int postingCount;
+
+  static String normalize(String value) {
+    String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+    String withoutDiacritics = DIACRITICS.matcher(decomposed).replaceAll("");
+    return WHITESPACE.matcher(withoutDiacritics.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+  }
+
+  int size() {
+    return documentCount - deletedCount;
+  }
+
+  void put(long id, String name) {
+    int existingDocument = documentsById.get(id);
+    if (existingDocument >= 0) {
+      if (names[existingDocument].equals(name)) {
+        return;
+      }
+      deletedDocuments.set(existingDocument);
+      deletedCount++;
+    }
+
+    int document = addDocument(id, name);
+    documentsById.put(id, document);
+
+    if (deletedCount >= MIN_DOCUMENTS_TO_COMPACT && deletedCount > documentCount / 2) {
+      compact();
+    }
+  }
+
+  List<PersonSuggestionResponse> search(String query, int limit) {
+    String normalizedQuery = normalize(query);
+    if (normalizedQuery.isEmpty()) {
+      return List.of();
+    }
+
+    if (normalizedQuery.length() < 3) {
+      char second = normalizedQuery.length() == 2 ? normalizedQuery.charAt(1) : NO_CHAR;
+      int slot = postingSlotsByKey.get(key(WORD_START, normalizedQuery.charAt(0), second));
+      return slot < 0 ? List.of() : collect(new int[] { slot }, null, limit);
+    }
+
+    int[] slots = new int[normalizedQuery.length() - 2];
+    for (int i = 0; i < slots.length; i++) {
+      int slot = postingSlotsByKey.get(trigramKey(normalizedQuery, i));
+      if (slot < 0) {
+        return List.of();
+      }
+      slots[i] = slot;
+    }
+    return collect(slots, normalizedQuery, limit);
+  }
+
+  private int addDocument(long id, String name) {
+    if (documentCount == ids.length) {
+      int capacity = ids.length * 2;
+      ids = Arrays.copyOf(ids, capacity);
+      names = Arrays.copyOf(names, capacity);
+      normalizedNames = Arrays.copyOf(normalizedNames, capacity);
+    }
+
+    int document = documentCount++;
+    String normalizedName = normalize(name);
+    ids[document] = id;
+    names[document] = name;
+    normalizedNames[document] = normalizedName;
+
+    for (int i = 0; i < normalizedName.length(); i++) {
+      if (i == 0 || normalizedName.charAt(i - 1) == ' ') {
+        char second = i + 1 < normalizedName.length() ? normalizedName.charAt(i + 1) : NO_CHAR;
+        addPosting(key(WORD_START, normalizedName.charAt(i), NO_CHAR), document);
+        addPosting(key(WORD_START, normalizedName.charAt(i), second), document);
+      }
+      if (i + 2 < normalizedName.length()) {
+        addPosting(trigramKey(normalizedName, i), document);
+      }
+    }
+    return document;
+  }
+
+  private void addPosting(long key, int document) {
+    int slot = postingSlotsByKey.get(key);
+    if (slot < 0) {
+      slot = newPostingSlot();
+      postingSlotsByKey.put(key, slot);
+    }
+
+    int size = postingSizes[slot];
+    int[] posting = postings[slot];
+    if (size > 0 && posting[size - 1] == document) {
+      return;
+    }
+    if (size == posting.length) {
+      posting = Arrays.copyOf(posting, size * 2);
+      postings[slot] = posting;
+    }
+    posting[size] = document;
+    postingSizes[slot] = size + 1;
+  }
+
+  private int newPostingSlot() {
+    if (postingCount == postings.length) {
+      postings = Arrays.copyOf(postings, postingCount * 2);
+      postingSizes = Arrays.copyOf(postingSizes, postingCount * 2);
+    }
+    postings[postingCount] = new int[INITIAL_POSTING_CAPACITY];
+    return postingCount++;
+  }
+
+  private List<PersonSuggestionResponse> collect(int[] slots, String normalizedQuery, int limit) {
+    int shortestSlot = slots[0];
+    for (int slot : slots) {
+      if (postingSizes[slot] < postingSizes[shortestSlot]) {
+        shortestSlot = slot;
+      }
+    }
+
+    List<PersonSuggestionResponse> suggestions = new ArrayList<>(limit);
+    int[] candidates = postings[shortestSlot];
+    for (int i = 0; i < postingSizes[shortestSlot] && suggestions.size() < limit; i++) {
+      int document = candidates[i];
+      if (!deletedDocuments.get(document) && isInAllPostings(document, slots)
+          && (normalizedQuery == null || normalizedNames[document].contains(normalizedQuery))) {
+        suggestions.add(new PersonSuggestionResponse(ids[document], names[document]));
+      }
+    }
+    return suggestions;
+  }
+
+  private boolean isInAllPostings(int document, int[] slots) {
+    for (int slot : slots) {
+      if (Arrays.binarySearch(postings[slot], 0, postingSizes[slot], document) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void compact() {
+    long[] liveIds = new long[size()];
+    String[] liveNames = new String[size()];
+    int liveCount = 0;
+    for (int document = 0; document < documentCount; document++) {
+      if (!deletedDocuments.get(document)) {
+        liveIds[liveCount] = ids[document];
+        liveNames[liveCount] = names[document];
+        liveCount++;
+      }
+    }
+
+    documentCount = 0;
+    deletedCount = 0;
+    deletedDocuments.clear();
+    documentsById.clear();
+    postingSlotsByKey.clear();
+    postingCount = 0;
+    Arrays.fill(postings, null);
+    Arrays.fill(postingSizes, 0);
+
+    for (int i = 0; i < liveCount; i++) {
+      documentsById.put(liveIds[i], addDocument(liveIds[i], liveNames[i]));
+    }
+  }
+
+  private static long trigramKey(String value, int start) {
+    return key(value.charAt(start), value.charAt(start + 1), value.charAt(start + 2));
+  }
+
+  private static long key(char first, char second, char third) {
+    return ((long) first << 32) | ((long) second << 16) | third;
+  }
+
+  static class LongIntHashMap {
+    private static final long EMPTY = -1L;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+
+    LongIntHashMap() {
+      clear();
+    }
+
+    int get(long key) {
+      int mask = keys.length - 1;
+      for (int index = hash(key) & mask; keys[index] != EMPTY; index = (index + 1) & mask) {
+        if (keys[index] == key) {
+          return values[index];
+        }
+      }
+      return -1;
+    }
+
+    void put(long key, int value) {
+      if ((size + 1) * 2 > keys.length) {
+        resize(keys.length * 2);
+      }
+
+      int mask = keys.length - 1;
+      int index = hash(key) & mask;
+      while (keys[index] != EMPTY && keys[index] != key) {
+        index = (index + 1) & mask;
+      }
+      if (keys[index] == EMPTY) {
+        keys[index] = key;
+        size++;
+      }
+      values[index] = value;
+    }
+
+    void clear() {
+      keys = new long[INITIAL_CAPACITY];
+      values = new int[INITIAL_CAPACITY];
+      Arrays.fill(keys, EMPTY);
+      size = 0;
+    }
+
+    private void resize(int capacity) {
+      long[] oldKeys = keys;
+      int[] oldValues = values;
+      keys = new long[capacity];
+      values = new int[capacity];
+      Arrays.fill(keys, EMPTY);
+      size = 0;
+
+      for (int i = 0; i < oldKeys.length; i++) {
+        if (oldKeys[i] != EMPTY) {
+          put(oldKeys[i], oldValues[i]);
+        }
+      }
+    }
+
+    private static int hash(long key) {
+      long mixed = key * 0x9E3779B97F4A7C15L;
+      return (int) (mixed ^ (mixed >>> 32));
+    }
+  }
+}
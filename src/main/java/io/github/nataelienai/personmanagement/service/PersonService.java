@@ -1,62 +1,263 @@
 package io.github.nataelienai.personmanagement.service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import io.github.nataelienai.personmanagement.config.CacheConfig;
+import io.github.nataelienai.personmanagement.config.MetricsConfig;
+import io.github.nataelienai.personmanagement.dto.PeopleByCepPageResponse;
+import io.github.nataelienai.personmanagement.dto.PeopleByCepResponse;
+import io.github.nataelienai.personmanagement.dto.PersonFields;
+import io.github.nataelienai.personmanagement.dto.PersonLookupResult;
+import io.github.nataelienai.personmanagement.dto.PersonLookupStatus;
+import io.github.nataelienai.personmanagement.dto.PersonPageResponse;
 import io.github.nataelienai.personmanagement.dto.PersonRequest;
 import io.github.nataelienai.personmanagement.dto.PersonResponse;
+import io.github.nataelienai.personmanagement.dto.PersonSearchRequest;
+import io.github.nataelienai.personmanagement.dto.PersonSummaryPageResponse;
+import io.github.nataelienai.personmanagement.dto.PersonSummaryResponse;
+import io.github.nataelienai.personmanagement.dto.VersionedPersonResult;
+import io.github.nataelienai.personmanagement.dto.VersionedPersonSummaryResult;
 import io.github.nataelienai.personmanagement.dto.mapper.PersonMapper;
+import io.github.nataelienai.personmanagement.entity.Address;
 import io.github.nataelienai.personmanagement.entity.Person;
 import io.github.nataelienai.personmanagement.exception.DateOfBirthParseException;
+import io.github.nataelienai.personmanagement.exception.InvalidCursorException;
+import io.github.nataelienai.personmanagement.exception.MissingSearchFilterException;
 import io.github.nataelienai.personmanagement.exception.PersonNotFoundException;
+import io.github.nataelienai.personmanagement.exception.PersonVersionMismatchException;
 import io.github.nataelienai.personmanagement.repository.PersonRepository;
+import io.github.nataelienai.personmanagement.repository.PersonSpecifications;
+import io.github.nataelienai.personmanagement.repository.PersonSummaryView;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
+@Timed(MetricsConfig.SERVICE_INVOCATIONS_METRIC)
 @RequiredArgsConstructor
 @Service
 public class PersonService {
   private static final String DATE_PATTERN = "yyyy-MM-dd";
-  private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_PATTERN);
+  static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_PATTERN);
+  static final int IDS_CHUNK_SIZE = 100;
 
   private final PersonRepository personRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   public PersonResponse create(PersonRequest personRequest) {
     Person person = new Person(personRequest.getName(), parseDateOfBirth(personRequest.getDateOfBirth()));
     Person savedPerson = personRepository.save(person);
+    eventPublisher.publishEvent(new PersonNameChangedEvent(savedPerson.getId(), savedPerson.getName()));
     return PersonMapper.mapToResponse(savedPerson, DATE_FORMATTER);
   }
 
-  public List<PersonResponse> findAll() {
-    return PersonMapper.mapToResponseList(personRepository.findAll(), DATE_FORMATTER);
+  @Transactional(readOnly = true)
+  public PersonPageResponse findAll(String cursor, int limit, PersonFields fields) {
+    Long lastSeenId = cursor == null ? 0L : decodeCursor(cursor);
+
+    List<Person> people = personRepository.findByIdGreaterThanOrderByIdAsc(lastSeenId, PageRequest.of(0, limit + 1));
+    return mapToPageResponse(people, limit, fields);
   }
 
-  public PersonResponse findById(Long id) {
-    Person person = personRepository.findById(id)
+  @Transactional(readOnly = true)
+  public PersonSummaryPageResponse findAllSummaries(String cursor, int limit) {
+    Long lastSeenId = cursor == null ? 0L : decodeCursor(cursor);
+
+    List<PersonSummaryView> summaries = personRepository.findSummariesByIdGreaterThan(lastSeenId,
+        PageRequest.of(0, limit + 1));
+
+    boolean hasNextPage = summaries.size() > limit;
+    if (hasNextPage) {
+      summaries = summaries.subList(0, limit);
+    }
+
+    String nextCursor = hasNextPage ? encodeCursor(summaries.get(limit - 1).getId()) : null;
+    return new PersonSummaryPageResponse(PersonMapper.mapToSummaryResponseList(summaries, DATE_FORMATTER), nextCursor);
+  }
+
+  @Transactional(readOnly = true)
+  public PersonPageResponse search(PersonSearchRequest searchRequest, String cursor, int limit, PersonFields fields) {
+    Specification<Person> specification = toSpecification(searchRequest);
+    Long lastSeenId = cursor == null ? 0L : decodeCursor(cursor);
+
+    List<Person> people = personRepository.findAllOrderByIdAsc(
+        specification.and(PersonSpecifications.idGreaterThan(lastSeenId)), limit + 1);
+    return mapToPageResponse(people, limit, fields);
+  }
+
+  @Transactional(readOnly = true)
+  public PeopleByCepPageResponse findAllByCep(List<String> ceps, String cursor, int limit) {
+    Long lastSeenId = cursor == null ? 0L : decodeCursor(cursor);
+
+    Map<String, List<Person>> peopleByCep = new LinkedHashMap<>();
+    ceps.forEach(cep -> peopleByCep.put(cep, new ArrayList<>()));
+
+    List<Integer> cepNumbers = peopleByCep.keySet().stream()
+        .map(Address::toCepNumber)
+        .collect(Collectors.toList());
+
+    List<Person> people = personRepository.findByCepNumberInAndIdGreaterThan(cepNumbers, lastSeenId,
+        PageRequest.of(0, limit + 1));
+
+    boolean hasNextPage = people.size() > limit;
+    if (hasNextPage) {
+      people = people.subList(0, limit);
+    }
+
+    people.forEach(person -> person.getAddresses().stream()
+        .map(Address::getCep)
+        .distinct()
+        .filter(peopleByCep::containsKey)
+        .forEach(cep -> peopleByCep.get(cep).add(person)));
+
+    List<PeopleByCepResponse> content = peopleByCep.entrySet().stream()
+        .map(entry -> new PeopleByCepResponse(entry.getKey(),
+            PersonMapper.mapToResponseList(entry.getValue(), DATE_FORMATTER)))
+        .collect(Collectors.toList());
+
+    String nextCursor = hasNextPage ? encodeCursor(people.get(limit - 1).getId()) : null;
+    return new PeopleByCepPageResponse(content, nextCursor);
+  }
+
+  @Transactional(readOnly = true)
+  public List<PersonLookupResult> findAllByIds(List<Long> ids, PersonFields fields) {
+    List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+    Map<Long, PersonResponse> peopleById = new HashMap<>();
+
+    for (int start = 0; start < distinctIds.size(); start += IDS_CHUNK_SIZE) {
+      List<Long> chunk = distinctIds.subList(start, Math.min(start + IDS_CHUNK_SIZE, distinctIds.size()));
+      List<Person> people = fields.includesAddresses()
+          ? personRepository.findAllWithAddressesByIdIn(chunk)
+          : personRepository.findAllByIdIn(chunk);
+      people.forEach(person -> peopleById.put(person.getId(), PersonMapper.mapToResponse(person, DATE_FORMATTER, fields)));
+    }
+
+    return ids.stream()
+        .map(id -> peopleById.containsKey(id)
+            ? new PersonLookupResult(id, PersonLookupStatus.FOUND, peopleById.get(id))
+            : new PersonLookupResult(id, PersonLookupStatus.NOT_FOUND, null))
+        .collect(Collectors.toList());
+  }
+
+  private PersonPageResponse mapToPageResponse(List<Person> people, int limit, PersonFields fields) {
+    boolean hasNextPage = people.size() > limit;
+    if (hasNextPage) {
+      people = people.subList(0, limit);
+    }
+
+    String nextCursor = hasNextPage ? encodeCursor(people.get(limit - 1).getId()) : null;
+    return new PersonPageResponse(PersonMapper.mapToResponseList(people, DATE_FORMATTER, fields), nextCursor);
+  }
+
+  @Cacheable(cacheNames = CacheConfig.PEOPLE_CACHE, key = "#id", condition = "#fields.includesAll()")
+  @Transactional(readOnly = true)
+  public VersionedPersonResult findById(Long id, PersonFields fields) {
+    Optional<Person> person = fields.includesAddresses()
+        ? personRepository.findWithAddressesById(id)
+        : personRepository.findById(id);
+
+    // The version is cached along with the body so that an ETag always describes the body it is sent with
+    return person
+        .map(foundPerson -> new VersionedPersonResult(foundPerson.getVersion(),
+            PersonMapper.mapToResponse(foundPerson, DATE_FORMATTER, fields)))
         .orElseThrow(() -> new PersonNotFoundException(id));
+  }
 
-    return PersonMapper.mapToResponse(person, DATE_FORMATTER);
+  @Transactional(readOnly = true)
+  public VersionedPersonSummaryResult findSummaryById(Long id) {
+    PersonSummaryView summary = personRepository.findSummaryById(id)
+        .orElseThrow(() -> new PersonNotFoundException(id));
+
+    return new VersionedPersonSummaryResult(summary.getVersion(), PersonMapper.mapToSummaryResponse(summary, DATE_FORMATTER));
   }
 
-  public PersonResponse update(Long id, PersonRequest personRequest) {
+  @CacheEvict(cacheNames = CacheConfig.PEOPLE_CACHE, key = "#id")
+  @Transactional
+  public VersionedPersonResult update(Long id, Long version, PersonRequest personRequest) {
+    LocalDate dateOfBirth = parseDateOfBirth(personRequest.getDateOfBirth());
+
     Person person = personRepository.findById(id)
         .orElseThrow(() -> new PersonNotFoundException(id));
+    if (version != null && !version.equals(person.getVersion())) {
+      throw new PersonVersionMismatchException(id);
+    }
 
     person.setName(personRequest.getName());
-    person.setDateOfBirth(parseDateOfBirth(personRequest.getDateOfBirth()));
+    person.setDateOfBirth(dateOfBirth);
+    try {
+      personRepository.saveAndFlush(person);
+    } catch (ObjectOptimisticLockingFailureException exception) {
+      throw new PersonVersionMismatchException(id);
+    }
+    eventPublisher.publishEvent(new PersonNameChangedEvent(id, person.getName()));
 
-    Person savedPerson = personRepository.save(person);
-    return PersonMapper.mapToResponse(savedPerson, DATE_FORMATTER);
+    PersonResponse personResponse = PersonMapper.mapToResponse(person, DATE_FORMATTER);
+    return new VersionedPersonResult(person.getVersion(), personResponse);
   }
 
-  private LocalDate parseDateOfBirth(String dateOfBirth) {
+  static LocalDate parseDateOfBirth(String dateOfBirth) {
     try {
       return LocalDate.parse(dateOfBirth, DATE_FORMATTER);
     } catch (DateTimeParseException exception) {
       throw new DateOfBirthParseException(DATE_PATTERN);
     }
   }
+
+  private Specification<Person> toSpecification(PersonSearchRequest searchRequest) {
+    List<Specification<Person>> filters = new ArrayList<>();
+
+    if (StringUtils.hasText(searchRequest.getName())) {
+      filters.add(PersonSpecifications.nameStartsWith(searchRequest.getName()));
+    }
+    if (searchRequest.getBornFrom() != null) {
+      filters.add(PersonSpecifications.bornOnOrAfter(searchRequest.getBornFrom()));
+    }
+    if (searchRequest.getBornTo() != null) {
+      filters.add(PersonSpecifications.bornOnOrBefore(searchRequest.getBornTo()));
+    }
+
+    String city = StringUtils.hasText(searchRequest.getCity()) ? searchRequest.getCity() : null;
+    String cep = StringUtils.hasText(searchRequest.getCep()) ? searchRequest.getCep() : null;
+    if (city != null || cep != null) {
+      filters.add(PersonSpecifications.hasAddress(city, cep));
+    }
+
+    return filters.stream()
+        .reduce(Specification::and)
+        .orElseThrow(MissingSearchFilterException::new);
+  }
+
+  static String encodeCursor(Long id) {
+    byte[] idBytes = id.toString().getBytes(StandardCharsets.UTF_8);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(idBytes);
+  }
+
+  static Long decodeCursor(String cursor) {
+    try {
+      byte[] idBytes = Base64.getUrlDecoder().decode(cursor);
+      return Long.valueOf(new String(idBytes, StandardCharsets.UTF_8));
+    } catch (IllegalArgumentException exception) {
+      throw new InvalidCursorException(cursor);
+    }
+  }
 }
@@ -0,0 +1,46 @@
+package io.github.nataelienai.personmanagement.service;
+
+import org.springframework.stereotype.Service;
+
+import io.github.nataelienai.personmanagement.dto.AddressResponse;
+import io.github.nataelienai.personmanagement.dto.PersonPageResponse;
+import io.github.nataelienai.personmanagement.dto.PersonResponse;
+import io.github.nataelienai.personmanagement.dto.mapper.PersonMapper;
+import io.github.nataelienai.personmanagement.exception.PersonNotFoundException;
+import io.github.nataelienai.personmanagement.repository.ReactivePersonRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class ReactivePersonService {
+  private final ReactivePersonRepository reactivePersonRepository;
+
+  public Mono<PersonPageResponse> findAll(String cursor, int limit) {
+    return Mono.fromCallable(() -> cursor == null ? 0L : PersonService.decodeCursor(cursor))
+        .flatMapMany(lastSeenId -> reactivePersonRepository.findAllWithAddresses(lastSeenId, limit + 1))
+        .map(person -> PersonMapper.mapToResponse(person, PersonService.DATE_FORMATTER))
+        .collectList()
+        .map(people -> {
+          boolean hasNextPage = people.size() > limit;
+          if (hasNextPage) {
+            people = people.subList(0, limit);
+          }
+
+          String nextCursor = hasNextPage ? PersonService.encodeCursor(people.get(limit - 1).getId()) : null;
+          return new PersonPageResponse(people, nextCursor);
+        });
+  }
+
+  public Mono<PersonResponse> findById(Long id) {
+    return reactivePersonRepository.findWithAddressesById(id)
+        .map(person -> PersonMapper.mapToResponse(person, PersonService.DATE_FORMATTER))
+        .switchIfEmpty(Mono.error(() -> new PersonNotFoundException(id)));
+  }
+
+  public Flux<AddressResponse> findAllByPersonId(Long personId) {
+    return findById(personId)
+        .flatMapIterable(PersonResponse::getAddresses);
+  }
+}
@@ -0,0 +1,176 @@
+package io.github.nataelienai.personmanagement.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+
+import io.github.nataelienai.personmanagement.dto.AddressRequest;
+import io.github.nataelienai.personmanagement.dto.PersonFields;
+import io.github.nataelienai.personmanagement.dto.PersonRequest;
+import io.github.nataelienai.personmanagement.dto.VersionedPersonResult;
+import io.github.nataelienai.personmanagement.entity.Address;
+import io.github.nataelienai.personmanagement.entity.Person;
+import io.github.nataelienai.personmanagement.repository.AddressRepository;
+import io.github.nataelienai.personmanagement.repository.PersonRepository;
+import io.github.nataelienai.personmanagement.service.AddressService;
+import io.github.nataelienai.personmanagement.service.PersonService;
+
+@SpringBootTest(classes = { CacheConfig.class, PersonService.class, AddressService.class })
+@ImportAutoConfiguration(CacheAutoConfiguration.class)
+class CacheConfigTest {
+  @Autowired
+  PersonService personService;
+
+  @Autowired
+  AddressService addressService;
+
+  @Autowired
+  CacheManager cacheManager;
+
+  @MockBean
+  PersonRepository personRepository;
+
+  @MockBean
+  AddressRepository addressRepository;
+
+  @MockBean
+  EntityManager entityManager;
+
+  Person person;
+
+  @BeforeEach
+  void setUp() {
+    cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+
+    person = new Person("John Doe", LocalDate.parse("2000-01-01"));
+    person.setId(1L);
+    given(personRepository.findWithAddressesById(person.getId())).willReturn(Optional.of(person));
+  }
+
+  @Test
+  @DisplayName("findById() should be served from the cache after the first call")
+  void findById_shouldBeServedFromCache_afterFirstCall() {
+    // given
+    Long personId = person.getId();
+
+    // when
+    VersionedPersonResult firstResponse = personService.findById(personId, PersonFields.ALL);
+    VersionedPersonResult secondResponse = personService.findById(personId, PersonFields.ALL);
+
+    // then
+    assertThat(secondResponse).isEqualTo(firstResponse);
+    then(personRepository).should(times(1)).findWithAddressesById(personId);
+  }
+
+  @Test
+  @DisplayName("findById() should serve the version that was cached along with the person")
+  void findById_shouldServeVersionCachedAlongWithPerson() {
+    // given
+    Long personId = person.getId();
+    person.setVersion(3L);
+    personService.findById(personId, PersonFields.ALL);
+    person.setVersion(4L);
+    person.setName("Jane Doe");
+
+    // when
+    VersionedPersonResult cachedResponse = personService.findById(personId, PersonFields.ALL);
+
+    // then
+    assertThat(cachedResponse.getVersion()).isEqualTo(3L);
+    assertThat(cachedResponse.getPerson().getName()).isEqualTo("John Doe");
+  }
+
+  @Test
+  @DisplayName("findById() should not cache a person retrieved with only some of their fields")
+  void findById_shouldNotCachePersonRetrievedWithSomeFields() {
+    // given
+    Long personId = person.getId();
+    given(personRepository.findById(personId)).willReturn(Optional.of(person));
+
+    // when
+    personService.findById(personId, PersonFields.of(List.of("name")));
+    VersionedPersonResult fullResponse = personService.findById(personId, PersonFields.ALL);
+
+    // then
+    assertThat(fullResponse.getPerson().getDateOfBirth()).isEqualTo("2000-01-01");
+    then(personRepository).should(times(1)).findWithAddressesById(personId);
+  }
+
+  @Test
+  @DisplayName("update() should evict the cached person")
+  void update_shouldEvictCachedPerson() {
+    // given
+    Long personId = person.getId();
+    personService.findById(personId, PersonFields.ALL);
+
+    given(personRepository.findById(personId)).willReturn(Optional.of(person));
+    given(personRepository.saveAndFlush(person)).willReturn(person);
+
+    // when
+    personService.update(personId, null, new PersonRequest("Jane Doe", "2000-01-02"));
+    VersionedPersonResult reloadedResponse = personService.findById(personId, PersonFields.ALL);
+
+    // then
+    assertThat(reloadedResponse.getPerson().getName()).isEqualTo("Jane Doe");
+    then(personRepository).should(times(2)).findWithAddressesById(personId);
+  }
+
+  @Test
+  @DisplayName("create() should evict the cached person and addresses")
+  void create_shouldEvictCachedPersonAndAddresses() {
+    // given
+    Long personId = person.getId();
+    personService.findById(personId, PersonFields.ALL);
+    addressService.findAllByPersonId(personId);
+
+    given(personRepository.findById(personId)).willReturn(Optional.of(person));
+    given(addressRepository.save(any(Address.class))).will(returnsFirstArg());
+
+    // when
+    addressService.create(personId, new AddressRequest("12345-123", "City", "Street", 10));
+    personService.findById(personId, PersonFields.ALL);
+    addressService.findAllByPersonId(personId);
+
+    // then
+    then(personRepository).should(times(4)).findWithAddressesById(personId);
+  }
+
+  @Test
+  @DisplayName("setPersonAddressAsMain() should evict the cached person and addresses")
+  void setPersonAddressAsMain_shouldEvictCachedPersonAndAddresses() {
+    // given
+    Long personId = person.getId();
+    personService.findById(personId, PersonFields.ALL);
+    addressService.findAllByPersonId(personId);
+
+    given(personRepository.findById(personId)).willReturn(Optional.of(person));
+    given(addressRepository.setMainAddress(personId, 1L)).willReturn(1);
+
+    // when
+    addressService.setPersonAddressAsMain(personId, 1L);
+    personService.findById(personId, PersonFields.ALL);
+    addressService.findAllByPersonId(personId);
+
+    // then
+    then(personRepository).should(times(4)).findWithAddressesById(personId);
+  }
+}
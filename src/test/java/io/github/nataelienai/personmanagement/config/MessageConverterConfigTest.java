@@ -0,0 +1,159 @@
+package io.github.nataelienai.personmanagement.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.test.web.servlet.MockMvc;
+
+import io.github.nataelienai.personmanagement.controller.PersonController;
+import io.github.nataelienai.personmanagement.dto.AddressResponse;
+import io.github.nataelienai.personmanagement.dto.PersonFields;
+import io.github.nataelienai.personmanagement.dto.PersonRequest;
+import io.github.nataelienai.personmanagement.dto.PersonResponse;
+import io.github.nataelienai.personmanagement.dto.VersionedPersonResult;
+import io.github.nataelienai.personmanagement.service.PersonAutocompleteService;
+import io.github.nataelienai.personmanagement.service.PersonService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@WebMvcTest(PersonController.class)
+@Import(SimpleMeterRegistry.class)
+class MessageConverterConfigTest {
+  static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+  @Autowired
+  MockMvc mockMvc;
+
+  @Autowired
+  MappingJackson2CborHttpMessageConverter cborHttpMessageConverter;
+
+  @Autowired
+  MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter;
+
+  @MockBean
+  PersonService personService;
+
+  @MockBean
+  PersonAutocompleteService personAutocompleteService;
+
+  ProtobufHttpMessageConverter protobufHttpMessageConverter = MessageConverterConfig
+      .createProtobufHttpMessageConverter(new Jackson2ObjectMapperBuilder());
+
+  PersonResponse personResponse = new PersonResponse(1L, "John Doe", "2000-01-01",
+      List.of(new AddressResponse(1L, "12345-123", "City", "Street", 10, true)));
+
+  @BeforeEach
+  void setUp() {
+    given(personService.findById(1L, PersonFields.ALL)).willReturn(new VersionedPersonResult(3L, personResponse));
+  }
+
+  @Test
+  @DisplayName("GET /people/{personId} should return JSON when not given an Accept header")
+  void findById_shouldReturnJson_whenNotGivenAcceptHeader() throws Exception {
+    // given
+    // when
+    // then
+    mockMvc.perform(get("/people/{personId}", 1L))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+  }
+
+  @Test
+  @DisplayName("GET /people/{personId} should return CBOR when it is accepted")
+  void findById_shouldReturnCbor_whenItIsAccepted() throws Exception {
+    // given
+    // when
+    byte[] body = mockMvc.perform(get("/people/{personId}", 1L).accept(MediaType.APPLICATION_CBOR))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+        .andReturn().getResponse().getContentAsByteArray();
+
+    // then
+    assertThat(read(cborHttpMessageConverter, body)).isEqualTo(personResponse);
+  }
+
+  @Test
+  @DisplayName("GET /people/{personId} should return Smile when it is accepted")
+  void findById_shouldReturnSmile_whenItIsAccepted() throws Exception {
+    // given
+    // when
+    byte[] body = mockMvc.perform(get("/people/{personId}", 1L).accept(SMILE))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(SMILE))
+        .andReturn().getResponse().getContentAsByteArray();
+
+    // then
+    assertThat(read(smileHttpMessageConverter, body)).isEqualTo(personResponse);
+  }
+
+  @Test
+  @DisplayName("GET /people/{personId} should return Protobuf when it is accepted")
+  void findById_shouldReturnProtobuf_whenItIsAccepted() throws Exception {
+    // given
+    // when
+    byte[] body = mockMvc.perform(get("/people/{personId}", 1L)
+        .accept(ProtobufHttpMessageConverter.APPLICATION_X_PROTOBUF))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(ProtobufHttpMessageConverter.APPLICATION_X_PROTOBUF))
+        .andReturn().getResponse().getContentAsByteArray();
+
+    // then
+    assertThat(read(protobufHttpMessageConverter, body)).isEqualTo(personResponse);
+  }
+
+  @Test
+  @DisplayName("POST /people should read a Protobuf person request")
+  void create_shouldReadProtobufPersonRequest() throws Exception {
+    // given
+    PersonRequest personRequest = new PersonRequest("John Doe", "2000-01-01");
+    given(personService.create(personRequest)).willReturn(personResponse);
+
+    MockHttpOutputMessage requestBody = new MockHttpOutputMessage();
+    protobufHttpMessageConverter.write(personRequest, ProtobufHttpMessageConverter.APPLICATION_X_PROTOBUF, requestBody);
+
+    // when
+    // then
+    mockMvc.perform(post("/people")
+        .contentType(ProtobufHttpMessageConverter.APPLICATION_X_PROTOBUF)
+        .content(requestBody.getBodyAsBytes()))
+        .andExpect(status().isCreated())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+  }
+
+  @Test
+  @DisplayName("GET /people?ids= should return 406 when only Protobuf is accepted")
+  void findAllByIds_shouldReturn406_whenOnlyProtobufIsAccepted() throws Exception {
+    // given
+    given(personService.findAllByIds(List.of(1L), PersonFields.ALL)).willReturn(List.of());
+
+    // when
+    // then
+    mockMvc.perform(get("/people").param("ids", "1").accept(ProtobufHttpMessageConverter.APPLICATION_X_PROTOBUF))
+        .andExpect(status().isNotAcceptable());
+  }
+
+  @SuppressWarnings("unchecked")
+  PersonResponse read(HttpMessageConverter<?> converter, byte[] body) throws Exception {
+    return (PersonResponse) ((HttpMessageConverter<Object>) converter).read(PersonResponse.class,
+        new MockHttpInputMessage(body));
+  }
+}
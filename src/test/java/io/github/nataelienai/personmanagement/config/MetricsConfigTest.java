@@ -0,0 +1,134 @@
+package io.github.nataelienai.personmanagement.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureMetrics
+class MetricsConfigTest {
+  @Autowired
+  MockMvc mockMvc;
+
+  @Autowired
+  MeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mockMvc.perform(post("/people")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("{\"name\":\"John Doe\",\"dateOfBirth\":\"2000-01-01\"}"))
+        .andExpect(status().isCreated());
+    mockMvc.perform(get("/people/{personId}/addresses", Long.MAX_VALUE))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  @DisplayName("controller endpoints should be timed with percentiles")
+  void controllerEndpoints_shouldBeTimedWithPercentiles() {
+    // given
+    // when
+    Timer timer = meterRegistry.get("http.server.requests")
+        .tag("uri", "/people/{personId}/addresses")
+        .tag("status", "404")
+        .timer();
+
+    // then
+    assertThat(timer.count()).isPositive();
+    assertThat(timer.takeSnapshot().percentileValues()).hasSize(3);
+  }
+
+  @Test
+  @DisplayName("service methods should be timed with percentiles")
+  void serviceMethods_shouldBeTimedWithPercentiles() {
+    // given
+    // when
+    Timer timer = meterRegistry.get(MetricsConfig.SERVICE_INVOCATIONS_METRIC)
+        .tag("class", "io.github.nataelienai.personmanagement.service.PersonService")
+        .tag("method", "create")
+        .timer();
+
+    // then
+    assertThat(timer.count()).isPositive();
+    assertThat(timer.takeSnapshot().percentileValues()).hasSize(3);
+  }
+
+  @Test
+  @DisplayName("repository methods should be timed with percentiles")
+  void repositoryMethods_shouldBeTimedWithPercentiles() {
+    // given
+    // when
+    Timer timer = meterRegistry.get("spring.data.repository.invocations")
+        .tag("repository", "PersonRepository")
+        .tag("method", "save")
+        .timer();
+
+    // then
+    assertThat(timer.count()).isPositive();
+    assertThat(timer.takeSnapshot().percentileValues()).hasSize(3);
+  }
+
+  @Test
+  @DisplayName("exceptions handled by the global exception handler should be counted by type")
+  void handledExceptions_shouldBeCountedByType() {
+    // given
+    // when
+    double count = meterRegistry.get(MetricsConfig.HANDLED_EXCEPTIONS_METRIC)
+        .tag("exception", "PersonNotFoundException")
+        .tag("status", "404")
+        .counter()
+        .count();
+
+    // then
+    assertThat(count).isPositive();
+  }
+
+  @Test
+  @DisplayName("connection pool and Hibernate meters should be registered")
+  void connectionPoolAndHibernateMeters_shouldBeRegistered() {
+    // given
+    // when
+    // then
+    assertThat(meterRegistry.find("hikaricp.connections.active").gauge()).isNotNull();
+    assertThat(meterRegistry.find("hibernate.statements").functionCounter()).isNotNull();
+    assertThat(meterRegistry.find("hibernate.second.level.cache.requests").functionCounters()).isNotEmpty();
+  }
+
+  @Test
+  @DisplayName("GET /actuator/prometheus should expose the meters in the Prometheus format")
+  void prometheusEndpoint_shouldExposeMeters() throws Exception {
+    // given
+    // when
+    String scrape = mockMvc.perform(get("/actuator/prometheus"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+        .andReturn()
+        .getResponse()
+        .getContentAsString();
+
+    // then
+    assertThat(scrape)
+        .contains("http_server_requests_seconds_bucket")
+        .contains("service_invocations_seconds{")
+        .contains("spring_data_repository_invocations_seconds_bucket")
+        .contains("api_exceptions_total{")
+        .contains("hikaricp_connections_active")
+        .contains("hibernate_statements_total");
+  }
+}
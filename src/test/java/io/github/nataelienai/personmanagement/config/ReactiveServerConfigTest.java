@@ -0,0 +1,137 @@
+package io.github.nataelienai.personmanagement.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.FluxExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import io.github.nataelienai.personmanagement.controller.ReactivePersonHandler;
+import io.github.nataelienai.personmanagement.dto.AddressResponse;
+import io.github.nataelienai.personmanagement.dto.PersonFields;
+import io.github.nataelienai.personmanagement.dto.PersonPageResponse;
+import io.github.nataelienai.personmanagement.dto.PersonResponse;
+import io.github.nataelienai.personmanagement.entity.Address;
+import io.github.nataelienai.personmanagement.entity.Person;
+import io.github.nataelienai.personmanagement.repository.AddressRepository;
+import io.github.nataelienai.personmanagement.repository.PersonRepository;
+import io.github.nataelienai.personmanagement.service.PersonService;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+    "person-management.reactive-server.enabled=true",
+    "person-management.reactive-server.port=0"
+})
+class ReactiveServerConfigTest {
+  @Autowired
+  ReactiveWebServer reactiveWebServer;
+
+  @Autowired
+  PersonRepository personRepository;
+
+  @Autowired
+  AddressRepository addressRepository;
+
+  @Autowired
+  PersonService personService;
+
+  WebTestClient webTestClient;
+
+  List<Person> people;
+
+  @BeforeEach
+  void setUp() {
+    webTestClient = WebTestClient.bindToServer()
+        .baseUrl("http://localhost:" + reactiveWebServer.getPort())
+        .build();
+
+    people = personRepository.saveAll(List.of(
+        new Person("John Doe", LocalDate.of(2000, 1, 1)),
+        new Person("Jane Doe", LocalDate.of(2001, 1, 1))));
+    Person john = people.get(0);
+    addressRepository.saveAll(List.of(
+        new Address("12345-123", "City", "Street", 10, true, john),
+        new Address("12345-456", "City", "Avenue", 20, false, john)));
+  }
+
+  @AfterEach
+  void tearDown() {
+    addressRepository.deleteAll();
+    personRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("GET /people should stream a page of people with their addresses as NDJSON")
+  void findAll_shouldStreamPageOfPeopleWithTheirAddressesAsNdjson() {
+    // when
+    FluxExchangeResult<PersonResponse> firstPage = webTestClient.get().uri("/people?limit=1")
+        .accept(MediaType.APPLICATION_NDJSON)
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+        .returnResult(PersonResponse.class);
+    List<PersonResponse> firstPeople = firstPage.getResponseBody().collectList().block();
+    String nextCursor = firstPage.getResponseHeaders().getFirst(ReactivePersonHandler.NEXT_CURSOR_HEADER);
+
+    PersonPageResponse secondPage = webTestClient.get().uri("/people?limit=1&after={after}", nextCursor)
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody(PersonPageResponse.class)
+        .returnResult()
+        .getResponseBody();
+
+    // then
+    assertThat(firstPeople).hasSize(1);
+    assertThat(firstPeople.get(0).getName()).isEqualTo("John Doe");
+    assertThat(firstPeople.get(0).getAddresses()).extracting(AddressResponse::getCep)
+        .containsExactlyInAnyOrder("12345-123", "12345-456");
+    assertThat(secondPage.getContent()).hasSize(1);
+    assertThat(secondPage.getContent().get(0).getName()).isEqualTo("Jane Doe");
+    assertThat(secondPage.getContent().get(0).getAddresses()).isEmpty();
+    assertThat(secondPage.getNextCursor()).isNull();
+  }
+
+  @Test
+  @DisplayName("GET /people/{personId} should return the same person as the blocking API")
+  void findById_shouldReturnSamePersonAsBlockingApi() {
+    // given
+    Long personId = people.get(0).getId();
+    PersonResponse blockingResponse = personService.findById(personId, PersonFields.ALL).getPerson();
+
+    // when
+    PersonResponse reactiveResponse = webTestClient.get().uri("/people/{personId}", personId)
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody(PersonResponse.class)
+        .returnResult()
+        .getResponseBody();
+
+    // then
+    assertThat(reactiveResponse.getId()).isEqualTo(blockingResponse.getId());
+    assertThat(reactiveResponse.getName()).isEqualTo(blockingResponse.getName());
+    assertThat(reactiveResponse.getDateOfBirth()).isEqualTo(blockingResponse.getDateOfBirth());
+    assertThat(reactiveResponse.getAddresses())
+        .containsExactlyInAnyOrderElementsOf(blockingResponse.getAddresses());
+  }
+
+  @Test
+  @DisplayName("GET /people/{personId}/addresses should return 404 when person does not exist")
+  void findAllAddresses_shouldReturn404_whenPersonDoesNotExist() {
+    // when
+    // then
+    webTestClient.get().uri("/people/{personId}/addresses", Long.MAX_VALUE)
+        .exchange()
+        .expectStatus().isNotFound()
+        .expectBody()
+        .jsonPath("$.message").isEqualTo("Could not find person " + Long.MAX_VALUE);
+  }
+}
@@ -0,0 +1,156 @@
+package io.github.nataelienai.personmanagement.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.nataelienai.personmanagement.dto.AddressRequest;
+import io.github.nataelienai.personmanagement.dto.PersonRequest;
+import io.github.nataelienai.personmanagement.dto.PersonResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties = {
+    "person-management.sql-tracing.response-headers=true",
+    "person-management.sql-tracing.slow-query-threshold=0ms"
+})
+@AutoConfigureMockMvc
+@ExtendWith(OutputCaptureExtension.class)
+class SqlTracingConfigTest {
+  @Autowired
+  MockMvc mockMvc;
+
+  @Autowired
+  ObjectMapper objectMapper;
+
+  @Autowired
+  MeterRegistry meterRegistry;
+
+  Long personId;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    for (int i = 0; i < 3; i++) {
+      personId = createPersonWithAddresses("Traced Person " + i);
+    }
+  }
+
+  @Test
+  @DisplayName("GET /people should report a constant number of SQL statements for a page of people and their addresses")
+  void findAll_shouldReportConstantNumberOfSqlStatements() throws Exception {
+    // given
+    // when
+    MvcResult result = mockMvc.perform(get("/people").param("limit", "100"))
+        .andExpect(status().isOk())
+        .andExpect(header().exists(SqlTracingFilter.TIME_HEADER))
+        .andReturn();
+
+    // then
+    long statementCount = Long.parseLong(result.getResponse().getHeader(SqlTracingFilter.STATEMENT_COUNT_HEADER));
+    assertThat(statementCount).isBetween(1L, 2L);
+  }
+
+  @Test
+  @DisplayName("responses without a body should report the SQL statements they ran")
+  void responsesWithoutBody_shouldReportSqlStatements() throws Exception {
+    // given
+    String eTag = mockMvc.perform(get("/people/{personId}", personId))
+        .andReturn()
+        .getResponse()
+        .getHeader(HttpHeaders.ETAG);
+
+    // when
+    // then
+    mockMvc.perform(get("/people/{personId}", personId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().exists(SqlTracingFilter.STATEMENT_COUNT_HEADER))
+        .andExpect(header().exists(SqlTracingFilter.TIME_HEADER));
+  }
+
+  @Test
+  @DisplayName("SQL statements per request should be recorded by uri")
+  void sqlStatementsPerRequest_shouldBeRecordedByUri() throws Exception {
+    // given
+    mockMvc.perform(get("/people")).andExpect(status().isOk());
+
+    // when
+    double totalStatements = meterRegistry.get(SqlTracingFilter.STATEMENTS_METRIC)
+        .tag("method", "GET")
+        .tag("uri", "/people")
+        .summary()
+        .totalAmount();
+
+    // then
+    assertThat(totalStatements).isPositive();
+    assertThat(meterRegistry.get(SqlTracingFilter.TIME_METRIC).tag("uri", "/people").timer().count()).isPositive();
+  }
+
+  @Test
+  @DisplayName("SQL statements run by a streamed response body should be recorded once the async request completes")
+  void streamedResponseBody_shouldRecordSqlStatementsOfAsyncThread() throws Exception {
+    // given
+    MvcResult result = mockMvc.perform(get("/people/export"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    // when
+    mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+    // then
+    double totalStatements = meterRegistry.get(SqlTracingFilter.STATEMENTS_METRIC)
+        .tag("method", "GET")
+        .tag("uri", "/people/export")
+        .summary()
+        .totalAmount();
+    assertThat(totalStatements).isPositive();
+  }
+
+  @Test
+  @DisplayName("slow queries should be logged with their bound parameters")
+  void slowQueries_shouldBeLoggedWithBoundParameters(CapturedOutput output) throws Exception {
+    // given
+    // when
+    createPersonWithAddresses("Slow Query Person");
+
+    // then
+    assertThat(output).contains("Slow query:").contains("Slow Query Person");
+  }
+
+  Long createPersonWithAddresses(String name) throws Exception {
+    String personJson = mockMvc.perform(post("/people")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(new PersonRequest(name, "2000-01-01"))))
+        .andReturn()
+        .getResponse()
+        .getContentAsString();
+    Long createdPersonId = objectMapper.readValue(personJson, PersonResponse.class).getId();
+
+    mockMvc.perform(post("/people/{personId}/addresses/batch", createdPersonId)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(new AddressRequest[] {
+            new AddressRequest("12325-123", "City", "Street", 10),
+            new AddressRequest("12325-124", "City", "Street", 20) })))
+        .andExpect(status().isCreated());
+
+    return createdPersonId;
+  }
+}
@@ -0,0 +1,70 @@
+package io.github.nataelienai.personmanagement.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+class VirtualThreadConfigTest {
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withUserConfiguration(VirtualThreadConfig.class);
+
+  @Test
+  @DisplayName("Virtual threads are disabled by default")
+  void virtualThreadsAreDisabledByDefault() {
+    // when / then
+    contextRunner.run(context -> {
+      assertThat(context).hasNotFailed();
+      assertThat(context).doesNotHaveBean(ExecutorService.class);
+      assertThat(context).doesNotHaveBean(AsyncTaskExecutor.class);
+    });
+  }
+
+  @Test
+  @DisplayName("Enabling virtual threads before Java 21 fails on startup")
+  void enablingVirtualThreadsBeforeJava21FailsOnStartup() {
+    assumeTrue(Runtime.version().feature() < 21);
+
+    // when / then
+    contextRunner
+        .withPropertyValues("person-management.virtual-threads.enabled=true")
+        .run(context -> {
+          assertThat(context).hasFailed();
+          assertThat(context.getStartupFailure())
+              .hasRootCauseInstanceOf(NoSuchMethodException.class)
+              .hasMessageContaining("Virtual threads require Java 21 or newer");
+        });
+  }
+
+  @Test
+  @DisplayName("Application tasks run on virtual threads when enabled")
+  void applicationTasksRunOnVirtualThreadsWhenEnabled() {
+    assumeTrue(Runtime.version().feature() >= 21);
+
+    // when / then
+    contextRunner
+        .withPropertyValues("person-management.virtual-threads.enabled=true")
+        .run(context -> {
+          AsyncTaskExecutor taskExecutor = context.getBean("applicationTaskExecutor", AsyncTaskExecutor.class);
+          CompletableFuture<Boolean> isVirtual = new CompletableFuture<>();
+          taskExecutor.execute(() -> isVirtual.complete(isVirtual(Thread.currentThread())));
+
+          assertThat(isVirtual.get()).isTrue();
+          assertThat(context).hasBean("taskExecutor");
+        });
+  }
+
+  private static boolean isVirtual(Thread thread) {
+    try {
+      return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+    } catch (ReflectiveOperationException exception) {
+      throw new IllegalStateException(exception);
+    }
+  }
+}
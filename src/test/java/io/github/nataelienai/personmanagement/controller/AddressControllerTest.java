@@ -1,5 +1,6 @@
 package io.github.nataelienai.personmanagement.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
@@ -9,6 +10,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 
 import java.util.List;
 import java.util.Map;
@@ -18,20 +20,29 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.github.nataelienai.personmanagement.config.MetricsConfig;
 import io.github.nataelienai.personmanagement.dto.AddressRequest;
 import io.github.nataelienai.personmanagement.dto.AddressResponse;
 import io.github.nataelienai.personmanagement.dto.ErrorResponse;
 import io.github.nataelienai.personmanagement.dto.ValidationErrorResponse;
+import io.github.nataelienai.personmanagement.dto.VersionedAddressesResult;
 import io.github.nataelienai.personmanagement.exception.AddressNotFoundException;
 import io.github.nataelienai.personmanagement.exception.PersonNotFoundException;
 import io.github.nataelienai.personmanagement.service.AddressService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @WebMvcTest(AddressController.class)
+@Import(SimpleMeterRegistry.class)
 class AddressControllerTest {
   @Autowired
   MockMvc mockMvc;
@@ -39,6 +50,9 @@ class AddressControllerTest {
   @Autowired
   ObjectMapper objectMapper;
 
+  @Autowired
+  MeterRegistry meterRegistry;
+
   @MockBean
   AddressService addressService;
 
@@ -116,6 +130,105 @@ class AddressControllerTest {
         .andExpect(content().json(errorResponseJson));
   }
 
+  @Test
+  @DisplayName("POST /people/{personId}/addresses/batch should return 201 and addresses when given valid person id and addresses")
+  void createAll_shouldReturn201AndAddresses_whenGivenValidPersonIdAndAddresses() throws Exception {
+    // given
+    Long personId = 1L;
+    List<AddressRequest> addressRequests = List.of(
+        new AddressRequest("12345-123", "City", "Street", 10),
+        new AddressRequest("12345-124", "City 2", "Street 2", 11));
+    List<AddressResponse> addressResponses = List.of(
+        new AddressResponse(1L, "12345-123", "City", "Street", 10, false),
+        new AddressResponse(2L, "12345-124", "City 2", "Street 2", 11, false));
+
+    given(addressService.createAll(personId, addressRequests)).willReturn(addressResponses);
+
+    String addressRequestsJson = objectMapper.writeValueAsString(addressRequests);
+    String addressResponsesJson = objectMapper.writeValueAsString(addressResponses);
+
+    // when
+    // then
+    mockMvc.perform(post("/people/{personId}/addresses/batch", personId)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(addressRequestsJson))
+        .andExpect(status().isCreated())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(addressResponsesJson));
+  }
+
+  @Test
+  @DisplayName("POST /people/{personId}/addresses/batch should return 400 when given an invalid address")
+  void createAll_shouldReturn400_whenGivenInvalidAddress() throws Exception {
+    // given
+    Long personId = 1L;
+    List<AddressRequest> addressRequests = List.of(
+        new AddressRequest("12345-123", "City", "Street", 10),
+        new AddressRequest("12345", "City 2", "Street 2", 11));
+
+    Map<String, String> fieldErrors = Map.of(
+        "addressRequests[1].cep", "CEP has an invalid format, a valid format would be 00000-000");
+    ValidationErrorResponse errorResponse = new ValidationErrorResponse(400, fieldErrors);
+
+    String addressRequestsJson = objectMapper.writeValueAsString(addressRequests);
+    String errorResponseJson = objectMapper.writeValueAsString(errorResponse);
+
+    // when
+    // then
+    mockMvc.perform(post("/people/{personId}/addresses/batch", personId)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(addressRequestsJson))
+        .andExpect(status().isBadRequest())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(errorResponseJson));
+
+    then(addressService).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("POST /people/{personId}/addresses/batch should return 400 when given no addresses")
+  void createAll_shouldReturn400_whenGivenNoAddresses() throws Exception {
+    // given
+    Long personId = 1L;
+    ValidationErrorResponse errorResponse = new ValidationErrorResponse(400,
+        Map.of("addressRequests", "At least one address is required"));
+
+    String errorResponseJson = objectMapper.writeValueAsString(errorResponse);
+
+    // when
+    // then
+    mockMvc.perform(post("/people/{personId}/addresses/batch", personId)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("[]"))
+        .andExpect(status().isBadRequest())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(errorResponseJson));
+  }
+
+  @Test
+  @DisplayName("POST /people/{personId}/addresses/batch should return 404 when person id does not exist")
+  void createAll_shouldReturn404_whenPersonIdDoesNotExist() throws Exception {
+    // given
+    Long personId = 1L;
+    List<AddressRequest> addressRequests = List.of(new AddressRequest("12345-123", "City", "Street", 10));
+    PersonNotFoundException exception = new PersonNotFoundException(personId);
+    ErrorResponse errorResponse = new ErrorResponse(404, exception.getMessage());
+
+    given(addressService.createAll(personId, addressRequests)).willThrow(exception);
+
+    String addressRequestsJson = objectMapper.writeValueAsString(addressRequests);
+    String errorResponseJson = objectMapper.writeValueAsString(errorResponse);
+
+    // when
+    // then
+    mockMvc.perform(post("/people/{personId}/addresses/batch", personId)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(addressRequestsJson))
+        .andExpect(status().isNotFound())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(errorResponseJson));
+  }
+
   @Test
   @DisplayName("GET /people/{personId}/addresses should return 200 and addresses when given valid person id")
   void findAllByPersonId_shouldReturn200AndAddresses_whenGivenValidPersonId() throws Exception {
@@ -125,7 +238,7 @@ class AddressControllerTest {
         new AddressResponse(1L, "12345-123", "City", "Street", 10, false),
         new AddressResponse(2L, "12345-124", "City 2", "Street 2", 11, false));
 
-    given(addressService.findAllByPersonId(personId)).willReturn(addressResponses);
+    given(addressService.findAllByPersonId(personId)).willReturn(new VersionedAddressesResult(2L, addressResponses));
 
     String addressResponseJson = objectMapper.writeValueAsString(addressResponses);
 
@@ -133,10 +246,30 @@ class AddressControllerTest {
     // then
     mockMvc.perform(get("/people/{personId}/addresses", personId))
         .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, eTag(2L)))
+        .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
         .andExpect(content().contentType(MediaType.APPLICATION_JSON))
         .andExpect(content().json(addressResponseJson));
   }
 
+  @Test
+  @DisplayName("GET /people/{personId}/addresses should return 304 when ETag matches")
+  void findAllByPersonId_shouldReturn304_whenETagMatches() throws Exception {
+    // given
+    Long personId = 1L;
+    given(addressService.findAllByPersonId(personId)).willReturn(new VersionedAddressesResult(2L,
+        List.of(new AddressResponse(1L, "12345-123", "City", "Street", 10, false))));
+
+    // when
+    // then
+    mockMvc.perform(get("/people/{personId}/addresses", personId)
+        .header(HttpHeaders.IF_NONE_MATCH, eTag(2L)))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, eTag(2L)))
+        .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+        .andExpect(content().string(""));
+  }
+
   @Test
   @DisplayName("GET /people/{personId}/addresses should return 404 when person id does not exist")
   void findAllByPersonId_shouldReturn404_whenPersonIdDoesNotExist() throws Exception {
@@ -157,6 +290,26 @@ class AddressControllerTest {
         .andExpect(content().json(errorResponseJson));
   }
 
+  @Test
+  @DisplayName("GET /people/{personId}/addresses should count the handled exception when person id does not exist")
+  void findAllByPersonId_shouldCountHandledException_whenPersonIdDoesNotExist() throws Exception {
+    // given
+    Long personId = 1L;
+    given(addressService.findAllByPersonId(personId)).willThrow(new PersonNotFoundException(personId));
+
+    double countBefore = meterRegistry.counter(MetricsConfig.HANDLED_EXCEPTIONS_METRIC,
+        "exception", "PersonNotFoundException", "status", "404").count();
+
+    // when
+    mockMvc.perform(get("/people/{personId}/addresses", personId))
+        .andExpect(status().isNotFound());
+
+    // then
+    assertThat(meterRegistry.counter(MetricsConfig.HANDLED_EXCEPTIONS_METRIC,
+        "exception", "PersonNotFoundException", "status", "404").count())
+        .isEqualTo(countBefore + 1);
+  }
+
   @Test
   @DisplayName("PATCH /people/{personId}/addresses/{addressId}/main should return 204 when given valid person and address ids")
   void setPersonAddressAsMain_shouldReturn204_whenGivenValidPersonAndAddressIds() throws Exception {
@@ -214,4 +367,8 @@ class AddressControllerTest {
         .andExpect(content().contentType(MediaType.APPLICATION_JSON))
         .andExpect(content().json(errorResponseJson));
   }
+
+  static String eTag(Long version) {
+    return "\"" + RepresentationETags.of(version, new ServletWebRequest(new MockHttpServletRequest()), "addresses") + "\"";
+  }
 }
@@ -0,0 +1,126 @@
+package io.github.nataelienai.personmanagement.controller;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.nataelienai.personmanagement.dto.AddressResponse;
+import io.github.nataelienai.personmanagement.dto.ErrorResponse;
+import io.github.nataelienai.personmanagement.dto.PeopleByCepPageResponse;
+import io.github.nataelienai.personmanagement.dto.PeopleByCepResponse;
+import io.github.nataelienai.personmanagement.dto.PersonResponse;
+import io.github.nataelienai.personmanagement.dto.ValidationErrorResponse;
+import io.github.nataelienai.personmanagement.service.PersonService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@WebMvcTest(AddressLookupController.class)
+@Import(SimpleMeterRegistry.class)
+class AddressLookupControllerTest {
+  @Autowired
+  MockMvc mockMvc;
+
+  @Autowired
+  ObjectMapper objectMapper;
+
+  @MockBean
+  PersonService personService;
+
+  @Test
+  @DisplayName("GET /addresses should return 200 and people grouped by the given CEPs")
+  void findPeopleByCep_shouldReturn200AndPeopleGroupedByGivenCeps() throws Exception {
+    // given
+    AddressResponse addressResponse = new AddressResponse(1L, "12345-123", "City", "Street", 10, true);
+    PersonResponse personResponse = new PersonResponse(1L, "John Doe", "2000-01-01", List.of(addressResponse));
+    PeopleByCepPageResponse pageResponse = new PeopleByCepPageResponse(List.of(
+        new PeopleByCepResponse("12345-123", List.of(personResponse)),
+        new PeopleByCepResponse("99999-999", List.of())), "MQ");
+
+    given(personService.findAllByCep(List.of("12345-123", "99999-999"), null, 20)).willReturn(pageResponse);
+
+    String pageResponseJson = objectMapper.writeValueAsString(pageResponse);
+
+    // when
+    // then
+    mockMvc.perform(get("/addresses").param("cep", "12345-123", "99999-999"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(pageResponseJson));
+  }
+
+  @Test
+  @DisplayName("GET /addresses should pass the cursor and limit to the lookup")
+  void findPeopleByCep_shouldPassCursorAndLimitToLookup() throws Exception {
+    // given
+    PeopleByCepPageResponse pageResponse = new PeopleByCepPageResponse(
+        List.of(new PeopleByCepResponse("12345-123", List.of())), null);
+
+    given(personService.findAllByCep(List.of("12345-123"), "MQ", 5)).willReturn(pageResponse);
+
+    // when
+    // then
+    mockMvc.perform(get("/addresses").param("cep", "12345-123").param("after", "MQ").param("limit", "5"))
+        .andExpect(status().isOk())
+        .andExpect(content().json(objectMapper.writeValueAsString(pageResponse)));
+  }
+
+  @Test
+  @DisplayName("GET /addresses should return 400 when given a limit above the maximum")
+  void findPeopleByCep_shouldReturn400_whenGivenLimitAboveMaximum() throws Exception {
+    // given
+    ValidationErrorResponse errorResponse = new ValidationErrorResponse(400, Map.of("limit", "Limit must be at most 100"));
+
+    // when
+    // then
+    mockMvc.perform(get("/addresses").param("cep", "12345-123").param("limit", "101"))
+        .andExpect(status().isBadRequest())
+        .andExpect(content().json(objectMapper.writeValueAsString(errorResponse)));
+  }
+
+  @Test
+  @DisplayName("GET /addresses should return 400 when given a CEP with an invalid format")
+  void findPeopleByCep_shouldReturn400_whenGivenCepWithInvalidFormat() throws Exception {
+    // given
+    ValidationErrorResponse errorResponse = new ValidationErrorResponse(400,
+        Map.of("cep[1]", "CEP has an invalid format, a valid format would be 00000-000"));
+
+    String errorResponseJson = objectMapper.writeValueAsString(errorResponse);
+
+    // when
+    // then
+    mockMvc.perform(get("/addresses").param("cep", "12345-123", "12345123"))
+        .andExpect(status().isBadRequest())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(errorResponseJson));
+  }
+
+  @Test
+  @DisplayName("GET /addresses should return 400 when not given a CEP")
+  void findPeopleByCep_shouldReturn400_whenNotGivenCep() throws Exception {
+    // given
+    ErrorResponse errorResponse = new ErrorResponse(400, "Parameter cep is required");
+
+    String errorResponseJson = objectMapper.writeValueAsString(errorResponse);
+
+    // when
+    // then
+    mockMvc.perform(get("/addresses"))
+        .andExpect(status().isBadRequest())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(errorResponseJson));
+  }
+}
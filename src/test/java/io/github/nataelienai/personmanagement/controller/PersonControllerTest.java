@@ -1,35 +1,64 @@
 package io.github.nataelienai.personmanagement.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.github.nataelienai.personmanagement.dto.AddressResponse;
 import io.github.nataelienai.personmanagement.dto.ErrorResponse;
+import io.github.nataelienai.personmanagement.dto.PersonFields;
+import io.github.nataelienai.personmanagement.dto.PersonLookupResult;
+import io.github.nataelienai.personmanagement.dto.PersonLookupStatus;
+import io.github.nataelienai.personmanagement.dto.PersonPageResponse;
 import io.github.nataelienai.personmanagement.dto.PersonRequest;
 import io.github.nataelienai.personmanagement.dto.PersonResponse;
+import io.github.nataelienai.personmanagement.dto.PersonSearchRequest;
+import io.github.nataelienai.personmanagement.dto.PersonSuggestionResponse;
+import io.github.nataelienai.personmanagement.dto.PersonSummaryPageResponse;
+import io.github.nataelienai.personmanagement.dto.PersonSummaryResponse;
 import io.github.nataelienai.personmanagement.dto.ValidationErrorResponse;
+import io.github.nataelienai.personmanagement.dto.VersionedPersonResult;
+import io.github.nataelienai.personmanagement.dto.VersionedPersonSummaryResult;
 import io.github.nataelienai.personmanagement.exception.DateOfBirthParseException;
+import io.github.nataelienai.personmanagement.exception.InvalidCursorException;
+import io.github.nataelienai.personmanagement.exception.MissingSearchFilterException;
 import io.github.nataelienai.personmanagement.exception.PersonNotFoundException;
+import io.github.nataelienai.personmanagement.exception.PersonVersionMismatchException;
+import io.github.nataelienai.personmanagement.service.PersonAutocompleteService;
 import io.github.nataelienai.personmanagement.service.PersonService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @WebMvcTest(PersonController.class)
+@Import(SimpleMeterRegistry.class)
 class PersonControllerTest {
   @Autowired
   MockMvc mockMvc;
@@ -40,6 +69,9 @@ class PersonControllerTest {
   @MockBean
   PersonService personService;
 
+  @MockBean
+  PersonAutocompleteService personAutocompleteService;
+
   @Test
   @DisplayName("POST /people should return 201 and person when given valid person")
   void create_shouldReturn201AndPerson_whenGivenValidPerson() throws Exception {
@@ -110,24 +142,276 @@ class PersonControllerTest {
   }
 
   @Test
-  @DisplayName("GET /people should return 200 and all people")
-  void findAll_shouldReturn200AndAllPeople() throws Exception {
+  @DisplayName("GET /people should return 200 and the first page of people")
+  void findAll_shouldReturn200AndFirstPageOfPeople() throws Exception {
     // given
     List<AddressResponse> addressResponses = List.of(
         new AddressResponse(1L, "12325-123", "city", "street", 10, false));
     List<PersonResponse> personResponses = List.of(
         new PersonResponse(1L, "John Doe", "2000-01-01", addressResponses));
+    PersonPageResponse personPageResponse = new PersonPageResponse(personResponses, "MQ");
 
-    given(personService.findAll()).willReturn(personResponses);
+    given(personService.findAll(null, 20, PersonFields.ALL)).willReturn(personPageResponse);
 
-    String personResponsesJson = objectMapper.writeValueAsString(personResponses);
+    String personPageResponseJson = objectMapper.writeValueAsString(personPageResponse);
 
     // when
     // then
     mockMvc.perform(get("/people"))
         .andExpect(status().isOk())
         .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-        .andExpect(content().json(personResponsesJson));
+        .andExpect(content().json(personPageResponseJson));
+  }
+
+  @Test
+  @DisplayName("GET /people should return 200 and the next page of people when given a cursor and a limit")
+  void findAll_shouldReturn200AndNextPageOfPeople_whenGivenCursorAndLimit() throws Exception {
+    // given
+    List<PersonResponse> personResponses = List.of(
+        new PersonResponse(2L, "Jane Doe", "2000-01-02", List.of()));
+    PersonPageResponse personPageResponse = new PersonPageResponse(personResponses, null);
+
+    given(personService.findAll("MQ", 1, PersonFields.ALL)).willReturn(personPageResponse);
+
+    String personPageResponseJson = objectMapper.writeValueAsString(personPageResponse);
+
+    // when
+    // then
+    mockMvc.perform(get("/people").param("after", "MQ").param("limit", "1"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(personPageResponseJson));
+  }
+
+  @Test
+  @DisplayName("GET /people?view=summary should return 200 and a page of person summaries")
+  void findAllSummaries_shouldReturn200AndPageOfPersonSummaries() throws Exception {
+    // given
+    AddressResponse mainAddress = new AddressResponse(1L, "12325-123", "city", "street", 10, true);
+    List<PersonSummaryResponse> summaryResponses = List.of(
+        new PersonSummaryResponse(1L, "John Doe", "2000-01-01", mainAddress));
+    PersonSummaryPageResponse summaryPageResponse = new PersonSummaryPageResponse(summaryResponses, "MQ");
+
+    given(personService.findAllSummaries("MQ", 10)).willReturn(summaryPageResponse);
+
+    String summaryPageResponseJson = objectMapper.writeValueAsString(summaryPageResponse);
+
+    // when
+    // then
+    mockMvc.perform(get("/people").param("view", "summary").param("after", "MQ").param("limit", "10"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(summaryPageResponseJson));
+    then(personService).should(never()).findAll(any(), anyInt(), any());
+  }
+
+  @Test
+  @DisplayName("GET /people?ids= should return 200 and a result for each given id in the given order")
+  void findAllByIds_shouldReturn200AndResultForEachGivenIdInGivenOrder() throws Exception {
+    // given
+    PersonResponse personResponse = new PersonResponse(1L, "John Doe", "2000-01-01", List.of());
+    List<PersonLookupResult> lookupResults = List.of(
+        new PersonLookupResult(2L, PersonLookupStatus.NOT_FOUND, null),
+        new PersonLookupResult(1L, PersonLookupStatus.FOUND, personResponse));
+
+    given(personService.findAllByIds(List.of(2L, 1L), PersonFields.ALL)).willReturn(lookupResults);
+
+    String lookupResultsJson = objectMapper.writeValueAsString(lookupResults);
+
+    // when
+    // then
+    mockMvc.perform(get("/people").param("ids", "2,1"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(lookupResultsJson, true));
+    then(personService).should(never()).findAll(any(), anyInt(), any());
+  }
+
+  @Test
+  @DisplayName("GET /people?ids=&view=summary should return 400 when ids and summary view are combined")
+  void findAllByIds_shouldReturn400_whenCombinedWithSummaryView() throws Exception {
+    // given
+    ErrorResponse errorResponse = new ErrorResponse(400, "The given parameters cannot be combined");
+
+    String errorResponseJson = objectMapper.writeValueAsString(errorResponse);
+
+    // when
+    // then
+    mockMvc.perform(get("/people").param("ids", "1,2").param("view", "summary"))
+        .andExpect(status().isBadRequest())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(errorResponseJson));
+    then(personService).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("GET /people?ids= should return 400 when given too many ids")
+  void findAllByIds_shouldReturn400_whenGivenTooManyIds() throws Exception {
+    // given
+    String ids = LongStream.rangeClosed(1, 501).mapToObj(String::valueOf).collect(Collectors.joining(","));
+    ValidationErrorResponse errorResponse = new ValidationErrorResponse(400,
+        Map.of("ids", "At most 500 ids can be given"));
+
+    String errorResponseJson = objectMapper.writeValueAsString(errorResponse);
+
+    // when
+    // then
+    mockMvc.perform(get("/people").param("ids", ids))
+        .andExpect(status().isBadRequest())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(errorResponseJson));
+    then(personService).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("GET /people?ids= should return 400 when given an invalid id")
+  void findAllByIds_shouldReturn400_whenGivenInvalidId() throws Exception {
+    // given
+    ErrorResponse errorResponse = new ErrorResponse(400, "Parameter ids has an invalid value");
+
+    String errorResponseJson = objectMapper.writeValueAsString(errorResponse);
+
+    // when
+    // then
+    mockMvc.perform(get("/people").param("ids", "1,abc"))
+        .andExpect(status().isBadRequest())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(errorResponseJson));
+  }
+
+  @Test
+  @DisplayName("GET /people should return 400 when given a limit out of range")
+  void findAll_shouldReturn400_whenGivenLimitOutOfRange() throws Exception {
+    // given
+    ValidationErrorResponse errorResponse = new ValidationErrorResponse(400,
+        Map.of("limit", "Limit must be at most 100"));
+
+    String errorResponseJson = objectMapper.writeValueAsString(errorResponse);
+
+    // when
+    // then
+    mockMvc.perform(get("/people").param("limit", "101"))
+        .andExpect(status().isBadRequest())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(errorResponseJson));
+  }
+
+  @Test
+  @DisplayName("GET /people should return 400 when given an invalid cursor")
+  void findAll_shouldReturn400_whenGivenInvalidCursor() throws Exception {
+    // given
+    InvalidCursorException exception = new InvalidCursorException("invalid");
+    ErrorResponse errorResponse = new ErrorResponse(400, exception.getMessage());
+
+    given(personService.findAll("invalid", 20, PersonFields.ALL)).willThrow(exception);
+
+    String errorResponseJson = objectMapper.writeValueAsString(errorResponse);
+
+    // when
+    // then
+    mockMvc.perform(get("/people").param("after", "invalid"))
+        .andExpect(status().isBadRequest())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(errorResponseJson));
+  }
+
+  @Test
+  @DisplayName("GET /people/search should return 200 and a page of matching people")
+  void search_shouldReturn200AndPageOfMatchingPeople() throws Exception {
+    // given
+    PersonSearchRequest searchRequest = new PersonSearchRequest("jo", LocalDate.parse("2000-01-01"),
+        LocalDate.parse("2000-12-31"), "City", "12325-123");
+    List<PersonResponse> personResponses = List.of(
+        new PersonResponse(1L, "John Doe", "2000-01-01", List.of()));
+    PersonPageResponse personPageResponse = new PersonPageResponse(personResponses, null);
+
+    given(personService.search(searchRequest, "MQ", 10, PersonFields.ALL)).willReturn(personPageResponse);
+
+    String personPageResponseJson = objectMapper.writeValueAsString(personPageResponse);
+
+    // when
+    // then
+    mockMvc.perform(get("/people/search")
+        .param("name", "jo")
+        .param("bornFrom", "2000-01-01")
+        .param("bornTo", "2000-12-31")
+        .param("city", "City")
+        .param("cep", "12325-123")
+        .param("after", "MQ")
+        .param("limit", "10"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(personPageResponseJson));
+  }
+
+  @Test
+  @DisplayName("GET /people/search should return 400 when not given any filter")
+  void search_shouldReturn400_whenNotGivenAnyFilter() throws Exception {
+    // given
+    MissingSearchFilterException exception = new MissingSearchFilterException();
+    ErrorResponse errorResponse = new ErrorResponse(400, exception.getMessage());
+
+    given(personService.search(new PersonSearchRequest(), null, 20, PersonFields.ALL)).willThrow(exception);
+
+    String errorResponseJson = objectMapper.writeValueAsString(errorResponse);
+
+    // when
+    // then
+    mockMvc.perform(get("/people/search"))
+        .andExpect(status().isBadRequest())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(errorResponseJson));
+  }
+
+  @Test
+  @DisplayName("GET /people/search should return 400 when given an invalid date")
+  void search_shouldReturn400_whenGivenInvalidDate() throws Exception {
+    // given
+    ErrorResponse errorResponse = new ErrorResponse(400, "Parameter bornFrom has an invalid value");
+
+    String errorResponseJson = objectMapper.writeValueAsString(errorResponse);
+
+    // when
+    // then
+    mockMvc.perform(get("/people/search").param("bornFrom", "2000-13-01"))
+        .andExpect(status().isBadRequest())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(errorResponseJson));
+  }
+
+  @Test
+  @DisplayName("GET /people/autocomplete should return 200 and suggestions matching the query")
+  void autocomplete_shouldReturn200AndSuggestionsMatchingQuery() throws Exception {
+    // given
+    List<PersonSuggestionResponse> suggestions = List.of(new PersonSuggestionResponse(1L, "John Doe"));
+
+    given(personAutocompleteService.autocomplete("doe", 5)).willReturn(suggestions);
+
+    String suggestionsJson = objectMapper.writeValueAsString(suggestions);
+
+    // when
+    // then
+    mockMvc.perform(get("/people/autocomplete").param("q", "doe").param("limit", "5"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(suggestionsJson));
+  }
+
+  @Test
+  @DisplayName("GET /people/autocomplete should return 400 when given a blank query")
+  void autocomplete_shouldReturn400_whenGivenBlankQuery() throws Exception {
+    // given
+    ValidationErrorResponse errorResponse = new ValidationErrorResponse(400,
+        Map.of("q", "Query is required"));
+
+    String errorResponseJson = objectMapper.writeValueAsString(errorResponse);
+
+    // when
+    // then
+    mockMvc.perform(get("/people/autocomplete").param("q", " "))
+        .andExpect(status().isBadRequest())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(errorResponseJson));
   }
 
   @Test
@@ -139,7 +423,7 @@ class PersonControllerTest {
     Long personId = 1L;
     PersonResponse personResponse = new PersonResponse(personId, "John Doe", "2000-01-01", addressResponses);
 
-    given(personService.findById(personId)).willReturn(personResponse);
+    given(personService.findById(personId, PersonFields.ALL)).willReturn(new VersionedPersonResult(3L, personResponse));
 
     String personResponseJson = objectMapper.writeValueAsString(personResponse);
 
@@ -147,10 +431,131 @@ class PersonControllerTest {
     // then
     mockMvc.perform(get("/people/{personId}", personId))
         .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, eTag(3L, null, PersonFields.ALL)))
+        .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
         .andExpect(content().contentType(MediaType.APPLICATION_JSON))
         .andExpect(content().json(personResponseJson));
   }
 
+  @Test
+  @DisplayName("GET /people/{personId}?fields= should return 200 and only the given fields of the person")
+  void findById_shouldReturn200AndOnlyGivenFieldsOfPerson() throws Exception {
+    // given
+    Long personId = 1L;
+    PersonFields fields = PersonFields.of(List.of("name"));
+
+    given(personService.findById(personId, fields))
+        .willReturn(new VersionedPersonResult(3L, new PersonResponse(personId, "John Doe", null, null)));
+
+    // when
+    // then
+    mockMvc.perform(get("/people/{personId}", personId).param("fields", "name"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json("{\"id\":1,\"name\":\"John Doe\"}", true));
+  }
+
+  @Test
+  @DisplayName("GET /people/{personId}?fields= should return 400 when given an unknown field")
+  void findById_shouldReturn400_whenGivenUnknownField() throws Exception {
+    // given
+    ValidationErrorResponse errorResponse = new ValidationErrorResponse(400,
+        Map.of("fields[1]", "Field must be one of id, name, dateOfBirth or addresses"));
+
+    String errorResponseJson = objectMapper.writeValueAsString(errorResponse);
+
+    // when
+    // then
+    mockMvc.perform(get("/people/{personId}", 1L).param("fields", "name,email"))
+        .andExpect(status().isBadRequest())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(errorResponseJson));
+    then(personService).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("GET /people/{personId} should return 304 when ETag matches")
+  void findById_shouldReturn304_whenETagMatches() throws Exception {
+    // given
+    Long personId = 1L;
+    given(personService.findById(personId, PersonFields.ALL))
+        .willReturn(new VersionedPersonResult(3L, new PersonResponse(personId, "John Doe", "2000-01-01", List.of())));
+
+    // when
+    // then
+    mockMvc.perform(get("/people/{personId}", personId)
+        .header(HttpHeaders.IF_NONE_MATCH, eTag(3L, null, PersonFields.ALL)))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, eTag(3L, null, PersonFields.ALL)))
+        .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  @DisplayName("GET /people/{personId} should return 200 and person when ETag is stale")
+  void findById_shouldReturn200AndPerson_whenETagIsStale() throws Exception {
+    // given
+    Long personId = 1L;
+    PersonResponse personResponse = new PersonResponse(personId, "John Doe", "2000-01-01", List.of());
+
+    given(personService.findById(personId, PersonFields.ALL)).willReturn(new VersionedPersonResult(4L, personResponse));
+
+    String personResponseJson = objectMapper.writeValueAsString(personResponse);
+
+    // when
+    // then
+    mockMvc.perform(get("/people/{personId}", personId)
+        .header(HttpHeaders.IF_NONE_MATCH, eTag(3L, null, PersonFields.ALL)))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, eTag(4L, null, PersonFields.ALL)))
+        .andExpect(content().json(personResponseJson));
+  }
+
+  @Test
+  @DisplayName("GET /people/{personId} should send a different ETag for each media type and field set")
+  void findById_shouldSendDifferentETagForEachMediaTypeAndFieldSet() throws Exception {
+    // given
+    Long personId = 1L;
+    PersonFields nameOnly = PersonFields.of(List.of("name"));
+
+    given(personService.findById(personId, PersonFields.ALL))
+        .willReturn(new VersionedPersonResult(3L, new PersonResponse(personId, "John Doe", "2000-01-01", List.of())));
+    given(personService.findById(personId, nameOnly))
+        .willReturn(new VersionedPersonResult(3L, new PersonResponse(personId, "John Doe", null, null)));
+
+    // when
+    String jsonETag = mockMvc.perform(get("/people/{personId}", personId).accept(MediaType.APPLICATION_JSON))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    String defaultETag = mockMvc.perform(get("/people/{personId}", personId))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    String cborETag = mockMvc.perform(get("/people/{personId}", personId).accept(MediaType.APPLICATION_CBOR))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    String nameOnlyETag = mockMvc.perform(get("/people/{personId}", personId).param("fields", "name"))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    // then
+    assertThat(jsonETag).isEqualTo(defaultETag).startsWith("\"3-");
+    assertThat(List.of(jsonETag, cborETag, nameOnlyETag)).doesNotHaveDuplicates();
+  }
+
+  @Test
+  @DisplayName("GET /people/{personId} should return 200 when ETag belongs to another media type")
+  void findById_shouldReturn200_whenETagBelongsToAnotherMediaType() throws Exception {
+    // given
+    Long personId = 1L;
+    given(personService.findById(personId, PersonFields.ALL))
+        .willReturn(new VersionedPersonResult(3L, new PersonResponse(personId, "John Doe", "2000-01-01", List.of())));
+
+    // when
+    // then
+    mockMvc.perform(get("/people/{personId}", personId)
+        .accept(MediaType.APPLICATION_CBOR)
+        .header(HttpHeaders.IF_NONE_MATCH, eTag(3L, MediaType.APPLICATION_JSON, PersonFields.ALL)))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, eTag(3L, MediaType.APPLICATION_CBOR, PersonFields.ALL)))
+        .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+  }
+
   @Test
   @DisplayName("GET /people/{personId} should return 404 when person id does not exist")
   void findById_shouldReturn404_whenPersonIdDoesNotExist() throws Exception {
@@ -159,7 +564,7 @@ class PersonControllerTest {
     PersonNotFoundException exception = new PersonNotFoundException(personId);
     ErrorResponse errorResponse = new ErrorResponse(404, exception.getMessage());
 
-    given(personService.findById(personId)).willThrow(exception);
+    given(personService.findById(personId, PersonFields.ALL)).willThrow(exception);
 
     String errorResponseJson = objectMapper.writeValueAsString(errorResponse);
 
@@ -171,6 +576,64 @@ class PersonControllerTest {
         .andExpect(content().json(errorResponseJson));
   }
 
+  @Test
+  @DisplayName("GET /people/{personId}?include=mainAddress should return 200 and person with their main address only")
+  void findSummaryById_shouldReturn200AndPersonWithMainAddressOnly() throws Exception {
+    // given
+    Long personId = 1L;
+    AddressResponse mainAddress = new AddressResponse(2L, "12325-123", "city", "street", 10, true);
+    PersonSummaryResponse summaryResponse = new PersonSummaryResponse(personId, "John Doe", "2000-01-01", mainAddress);
+
+    given(personService.findSummaryById(personId)).willReturn(new VersionedPersonSummaryResult(3L, summaryResponse));
+
+    String summaryResponseJson = objectMapper.writeValueAsString(summaryResponse);
+
+    // when
+    // then
+    mockMvc.perform(get("/people/{personId}", personId).param("include", "mainAddress"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, eTag(3L, null, "include=mainAddress")))
+        .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(summaryResponseJson, true));
+    then(personService).should(never()).findById(any(), any());
+  }
+
+  @Test
+  @DisplayName("GET /people/{personId}?include=mainAddress should return 304 when ETag matches")
+  void findSummaryById_shouldReturn304_whenETagMatches() throws Exception {
+    // given
+    Long personId = 1L;
+    PersonSummaryResponse summaryResponse = new PersonSummaryResponse(personId, "John Doe", "2000-01-01", null);
+
+    given(personService.findSummaryById(personId)).willReturn(new VersionedPersonSummaryResult(3L, summaryResponse));
+
+    // when
+    // then
+    mockMvc.perform(get("/people/{personId}", personId).param("include", "mainAddress")
+        .header(HttpHeaders.IF_NONE_MATCH, eTag(3L, null, "include=mainAddress")))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  @DisplayName("GET /people/{personId}?include=mainAddress&fields= should return 400 when include and fields are combined")
+  void findSummaryById_shouldReturn400_whenCombinedWithFields() throws Exception {
+    // given
+    ErrorResponse errorResponse = new ErrorResponse(400, "The given parameters cannot be combined");
+
+    String errorResponseJson = objectMapper.writeValueAsString(errorResponse);
+
+    // when
+    // then
+    mockMvc.perform(get("/people/{personId}", 1L).param("include", "mainAddress").param("fields", "name"))
+        .andExpect(status().isBadRequest())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(errorResponseJson));
+    then(personService).shouldHaveNoInteractions();
+  }
+
   @Test
   @DisplayName("PUT /people/{personId} should return 200 and person when given valid person and id")
   void update_shouldReturn200AndPerson_whenGivenValidPersonAndId() throws Exception {
@@ -179,7 +642,7 @@ class PersonControllerTest {
     PersonRequest personRequest = new PersonRequest("John Doe", "2000-01-01");
     PersonResponse personResponse = new PersonResponse(personId, "John Doe", "2000-01-01", List.of());
 
-    given(personService.update(personId, personRequest)).willReturn(personResponse);
+    given(personService.update(personId, null, personRequest)).willReturn(new VersionedPersonResult(5L, personResponse));
 
     String personRequestJson = objectMapper.writeValueAsString(personRequest);
     String personResponseJson = objectMapper.writeValueAsString(personResponse);
@@ -190,10 +653,78 @@ class PersonControllerTest {
         .contentType(MediaType.APPLICATION_JSON)
         .content(personRequestJson))
         .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, eTag(5L, null, PersonFields.ALL)))
         .andExpect(content().contentType(MediaType.APPLICATION_JSON))
         .andExpect(content().json(personResponseJson));
   }
 
+  @Test
+  @DisplayName("PUT /people/{personId} should return 200, person and new ETag when If-Match matches")
+  void update_shouldReturn200PersonAndNewETag_whenIfMatchMatches() throws Exception {
+    // given
+    Long personId = 1L;
+    PersonRequest personRequest = new PersonRequest("John Doe", "2000-01-01");
+    PersonResponse personResponse = new PersonResponse(personId, "John Doe", "2000-01-01", List.of());
+
+    given(personService.update(personId, 3L, personRequest)).willReturn(new VersionedPersonResult(4L, personResponse));
+
+    String personRequestJson = objectMapper.writeValueAsString(personRequest);
+    String personResponseJson = objectMapper.writeValueAsString(personResponse);
+
+    // when
+    // then
+    mockMvc.perform(put("/people/{personId}", personId)
+        .header(HttpHeaders.IF_MATCH, eTag(3L, null, PersonFields.ALL))
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(personRequestJson))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, eTag(4L, null, PersonFields.ALL)))
+        .andExpect(content().json(personResponseJson));
+  }
+
+  @Test
+  @DisplayName("PUT /people/{personId} should return 412 when If-Match does not match")
+  void update_shouldReturn412_whenIfMatchDoesNotMatch() throws Exception {
+    // given
+    Long personId = 1L;
+    PersonRequest personRequest = new PersonRequest("John Doe", "2000-01-01");
+    PersonVersionMismatchException exception = new PersonVersionMismatchException(personId);
+    ErrorResponse errorResponse = new ErrorResponse(412, exception.getMessage());
+
+    given(personService.update(personId, 2L, personRequest)).willThrow(exception);
+
+    String personRequestJson = objectMapper.writeValueAsString(personRequest);
+    String errorResponseJson = objectMapper.writeValueAsString(errorResponse);
+
+    // when
+    // then
+    mockMvc.perform(put("/people/{personId}", personId)
+        .header(HttpHeaders.IF_MATCH, "\"2\"")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(personRequestJson))
+        .andExpect(status().isPreconditionFailed())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(errorResponseJson));
+  }
+
+  @Test
+  @DisplayName("PUT /people/{personId} should return 412 without updating when If-Match is not a strong ETag")
+  void update_shouldReturn412WithoutUpdating_whenIfMatchIsNotStrongETag() throws Exception {
+    // given
+    PersonRequest personRequest = new PersonRequest("John Doe", "2000-01-01");
+    String personRequestJson = objectMapper.writeValueAsString(personRequest);
+
+    // when
+    mockMvc.perform(put("/people/{personId}", 1L)
+        .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(personRequestJson))
+        .andExpect(status().isPreconditionFailed());
+
+    // then
+    then(personService).should(never()).update(any(), any(), any());
+  }
+
   @Test
   @DisplayName("PUT /people/{personId} should return 400 when given invalid person")
   void update_shouldReturn400_whenGivenInvalidPerson() throws Exception {
@@ -227,7 +758,7 @@ class PersonControllerTest {
     DateOfBirthParseException exception = new DateOfBirthParseException("yyyy-MM-dd");
     ErrorResponse errorResponse = new ErrorResponse(400, exception.getMessage());
 
-    given(personService.update(personId, personRequest)).willThrow(exception);
+    given(personService.update(personId, null, personRequest)).willThrow(exception);
 
     String personRequestJson = objectMapper.writeValueAsString(personRequest);
     String errorResponseJson = objectMapper.writeValueAsString(errorResponse);
@@ -251,7 +782,7 @@ class PersonControllerTest {
     PersonNotFoundException exception = new PersonNotFoundException(personId);
     ErrorResponse errorResponse = new ErrorResponse(404, exception.getMessage());
 
-    given(personService.update(personId, personRequest)).willThrow(exception);
+    given(personService.update(personId, null, personRequest)).willThrow(exception);
 
     String personRequestJson = objectMapper.writeValueAsString(personRequest);
     String errorResponseJson = objectMapper.writeValueAsString(errorResponse);
@@ -265,4 +796,12 @@ class PersonControllerTest {
         .andExpect(content().contentType(MediaType.APPLICATION_JSON))
         .andExpect(content().json(errorResponseJson));
   }
+
+  static String eTag(Long version, MediaType accept, Object variant) {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    if (accept != null) {
+      request.addHeader(HttpHeaders.ACCEPT, accept.toString());
+    }
+    return "\"" + RepresentationETags.of(version, new ServletWebRequest(request), variant) + "\"";
+  }
 }
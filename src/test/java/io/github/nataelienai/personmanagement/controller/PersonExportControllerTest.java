@@ -0,0 +1,59 @@
+package io.github.nataelienai.personmanagement.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import io.github.nataelienai.personmanagement.service.PersonExportService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@WebMvcTest(PersonExportController.class)
+@Import(SimpleMeterRegistry.class)
+class PersonExportControllerTest {
+  @Autowired
+  MockMvc mockMvc;
+
+  @MockBean
+  PersonExportService personExportService;
+
+  @Test
+  @DisplayName("GET /people/export should return 200 and stream people as newline-delimited JSON")
+  void exportAll_shouldReturn200AndStreamPeopleAsNdjson() throws Exception {
+    // given
+    String ndjson = "{\"id\":1,\"name\":\"John Doe\",\"dateOfBirth\":\"2000-01-01\",\"addresses\":[]}\n";
+
+    willAnswer(invocation -> {
+      OutputStream outputStream = invocation.getArgument(0);
+      outputStream.write(ndjson.getBytes(StandardCharsets.UTF_8));
+      return null;
+    }).given(personExportService).exportAll(any(OutputStream.class));
+
+    // when
+    MvcResult mvcResult = mockMvc.perform(get("/people/export"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    // then
+    mockMvc.perform(asyncDispatch(mvcResult))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+        .andExpect(content().string(ndjson));
+  }
+}
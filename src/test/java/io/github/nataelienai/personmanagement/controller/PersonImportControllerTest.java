@@ -0,0 +1,151 @@
+package io.github.nataelienai.personmanagement.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.nataelienai.personmanagement.dto.ErrorResponse;
+import io.github.nataelienai.personmanagement.dto.PersonImportResponse;
+import io.github.nataelienai.personmanagement.dto.PersonImportResult;
+import io.github.nataelienai.personmanagement.dto.PersonImportStatus;
+import io.github.nataelienai.personmanagement.dto.PersonRequest;
+import io.github.nataelienai.personmanagement.service.PersonImportService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@WebMvcTest(PersonImportController.class)
+@Import(SimpleMeterRegistry.class)
+class PersonImportControllerTest {
+  @Autowired
+  MockMvc mockMvc;
+
+  @Autowired
+  ObjectMapper objectMapper;
+
+  @MockBean
+  PersonImportService personImportService;
+
+  List<PersonRequest> importedRequests = new ArrayList<>();
+
+  @Test
+  @DisplayName("POST /people/bulk should return 200 and the import results when given a JSON array")
+  void importAll_shouldReturn200AndResults_whenGivenJsonArray() throws Exception {
+    // given
+    List<PersonRequest> personRequests = List.of(
+        new PersonRequest("John Doe", "2000-01-01"),
+        new PersonRequest("Jane Doe", "2000-01-02"));
+    PersonImportResponse personImportResponse = givenImportCreatesEveryRecord();
+
+    String personRequestsJson = objectMapper.writeValueAsString(personRequests);
+    String personImportResponseJson = objectMapper.writeValueAsString(personImportResponse);
+
+    // when
+    // then
+    mockMvc.perform(post("/people/bulk")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(personRequestsJson))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(personImportResponseJson));
+
+    assertThat(importedRequests).isEqualTo(personRequests);
+  }
+
+  @Test
+  @DisplayName("POST /people/bulk should return 200 and the import results when given newline-delimited JSON")
+  void importAll_shouldReturn200AndResults_whenGivenNdjson() throws Exception {
+    // given
+    List<PersonRequest> personRequests = List.of(
+        new PersonRequest("John Doe", "2000-01-01"),
+        new PersonRequest("Jane Doe", "2000-01-02"));
+    PersonImportResponse personImportResponse = givenImportCreatesEveryRecord();
+
+    String personRequestsNdjson = objectMapper.writeValueAsString(personRequests.get(0)) + "\n"
+        + objectMapper.writeValueAsString(personRequests.get(1)) + "\n";
+    String personImportResponseJson = objectMapper.writeValueAsString(personImportResponse);
+
+    // when
+    // then
+    mockMvc.perform(post("/people/bulk")
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .content(personRequestsNdjson))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(personImportResponseJson));
+
+    assertThat(importedRequests).isEqualTo(personRequests);
+  }
+
+  @Test
+  @DisplayName("POST /people/bulk should return 200 and the import results when a newline-delimited JSON line is malformed")
+  void importAll_shouldReturn200AndResults_whenNdjsonLineIsMalformed() throws Exception {
+    // given
+    PersonImportResponse personImportResponse = new PersonImportResponse(1, 0, 1, List.of(
+        new PersonImportResult(0, PersonImportStatus.CREATED, 1L, null),
+        new PersonImportResult(1, PersonImportStatus.FAILED, null, Map.of("record", "Record has an invalid JSON format"))));
+    given(personImportService.importAll(any())).willReturn(personImportResponse);
+
+    String personImportResponseJson = objectMapper.writeValueAsString(personImportResponse);
+
+    // when
+    // then
+    mockMvc.perform(post("/people/bulk")
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .content("{\"name\": \"John Doe\", \"dateOfBirth\": \"2000-01-01\"}\n{\"name\": \"Jane Doe\"\n"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(personImportResponseJson));
+  }
+
+  @Test
+  @DisplayName("POST /people/bulk should return 400 when the body is not newline-delimited JSON")
+  void importAll_shouldReturn400_whenBodyIsNotNdjson() throws Exception {
+    // given
+    ErrorResponse errorResponse = new ErrorResponse(400, "JSON request body has an invalid format");
+
+    String errorResponseJson = objectMapper.writeValueAsString(errorResponse);
+
+    // when
+    // then
+    mockMvc.perform(post("/people/bulk")
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .content("not json"))
+        .andExpect(status().isBadRequest())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(content().json(errorResponseJson));
+    then(personImportService).shouldHaveNoInteractions();
+  }
+
+  PersonImportResponse givenImportCreatesEveryRecord() {
+    PersonImportResponse personImportResponse = new PersonImportResponse(2, 0, 0, List.of(
+        new PersonImportResult(0, PersonImportStatus.CREATED, 1L, null),
+        new PersonImportResult(1, PersonImportStatus.CREATED, 2L, null)));
+
+    given(personImportService.importAll(any())).will(invocation -> {
+      Iterator<PersonRequest> personRequests = invocation.getArgument(0);
+      personRequests.forEachRemaining(importedRequests::add);
+      return personImportResponse;
+    });
+
+    return personImportResponse;
+  }
+}
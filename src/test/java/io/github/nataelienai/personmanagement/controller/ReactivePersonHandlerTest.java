@@ -0,0 +1,183 @@
+package io.github.nataelienai.personmanagement.controller;
+
+import static org.mockito.BDDMockito.given;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import io.github.nataelienai.personmanagement.dto.AddressResponse;
+import io.github.nataelienai.personmanagement.dto.PersonPageResponse;
+import io.github.nataelienai.personmanagement.dto.PersonResponse;
+import io.github.nataelienai.personmanagement.exception.InvalidCursorException;
+import io.github.nataelienai.personmanagement.exception.PersonNotFoundException;
+import io.github.nataelienai.personmanagement.service.ReactivePersonService;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class ReactivePersonHandlerTest {
+  @Mock
+  ReactivePersonService reactivePersonService;
+
+  WebTestClient webTestClient;
+
+  @BeforeEach
+  void setUp() {
+    webTestClient = WebTestClient
+        .bindToRouterFunction(new ReactivePersonHandler(reactivePersonService).routes())
+        .build();
+  }
+
+  @Test
+  @DisplayName("GET /people should return 200 and a page of people as JSON")
+  void findAll_shouldReturn200AndPageOfPeopleAsJson() {
+    // given
+    PersonResponse firstPerson = new PersonResponse(1L, "John Doe", "2000-01-01", List.of());
+    PersonResponse secondPerson = new PersonResponse(2L, "Jane Doe", "2001-01-01", List.of());
+    PersonPageResponse personPage = new PersonPageResponse(List.of(firstPerson, secondPerson), "Mg");
+    given(reactivePersonService.findAll(null, 20)).willReturn(Mono.just(personPage));
+
+    // when
+    // then
+    webTestClient.get().uri("/people")
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().contentType(MediaType.APPLICATION_JSON)
+        .expectBody(PersonPageResponse.class).isEqualTo(personPage);
+  }
+
+  @Test
+  @DisplayName("GET /people should stream a page of people as NDJSON with the next cursor in a header when requested")
+  void findAll_shouldStreamPageOfPeopleAsNdjsonWithNextCursorHeader_whenRequested() {
+    // given
+    PersonResponse firstPerson = new PersonResponse(1L, "John Doe", "2000-01-01", List.of());
+    PersonResponse secondPerson = new PersonResponse(2L, "Jane Doe", "2001-01-01", List.of());
+    given(reactivePersonService.findAll("MQ", 2))
+        .willReturn(Mono.just(new PersonPageResponse(List.of(firstPerson, secondPerson), "Mg")));
+
+    // when
+    // then
+    webTestClient.get().uri("/people?after=MQ&limit=2")
+        .accept(MediaType.APPLICATION_NDJSON)
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+        .expectHeader().valueEquals(ReactivePersonHandler.NEXT_CURSOR_HEADER, "Mg")
+        .expectBody(String.class).isEqualTo(
+            "{\"id\":1,\"name\":\"John Doe\",\"dateOfBirth\":\"2000-01-01\",\"addresses\":[]}\n"
+                + "{\"id\":2,\"name\":\"Jane Doe\",\"dateOfBirth\":\"2001-01-01\",\"addresses\":[]}\n");
+  }
+
+  @Test
+  @DisplayName("GET /people should return 400 when limit is greater than 100")
+  void findAll_shouldReturn400_whenLimitIsGreaterThan100() {
+    // when
+    // then
+    webTestClient.get().uri("/people?limit=101")
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.statusCode").isEqualTo(400)
+        .jsonPath("$.message").isEqualTo("Limit must be at most 100");
+  }
+
+  @Test
+  @DisplayName("GET /people should return 400 when given an invalid cursor")
+  void findAll_shouldReturn400_whenGivenInvalidCursor() {
+    // given
+    given(reactivePersonService.findAll("abc", 20)).willReturn(Mono.error(new InvalidCursorException("abc")));
+
+    // when
+    // then
+    webTestClient.get().uri("/people?after=abc")
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.statusCode").isEqualTo(400)
+        .jsonPath("$.message").isEqualTo("Cursor abc is invalid");
+  }
+
+  @Test
+  @DisplayName("GET /people/{personId} should return 200 and the person")
+  void findById_shouldReturn200AndPerson() {
+    // given
+    AddressResponse addressResponse = new AddressResponse(1L, "12345-123", "City", "Street", 10, true);
+    PersonResponse personResponse = new PersonResponse(1L, "John Doe", "2000-01-01", List.of(addressResponse));
+    given(reactivePersonService.findById(1L)).willReturn(Mono.just(personResponse));
+
+    // when
+    // then
+    webTestClient.get().uri("/people/1")
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody(PersonResponse.class).isEqualTo(personResponse);
+  }
+
+  @Test
+  @DisplayName("GET /people/{personId} should return 404 when person does not exist")
+  void findById_shouldReturn404_whenPersonDoesNotExist() {
+    // given
+    given(reactivePersonService.findById(1L)).willReturn(Mono.error(new PersonNotFoundException(1L)));
+
+    // when
+    // then
+    webTestClient.get().uri("/people/1")
+        .exchange()
+        .expectStatus().isNotFound()
+        .expectBody()
+        .jsonPath("$.statusCode").isEqualTo(404)
+        .jsonPath("$.message").isEqualTo("Could not find person 1");
+  }
+
+  @Test
+  @DisplayName("GET /people/{personId} should return 400 when given an invalid id")
+  void findById_shouldReturn400_whenGivenInvalidId() {
+    // when
+    // then
+    webTestClient.get().uri("/people/abc")
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.statusCode").isEqualTo(400)
+        .jsonPath("$.message").isEqualTo("Parameter personId has an invalid value");
+  }
+
+  @Test
+  @DisplayName("GET /people/{personId}/addresses should return 200 and the person's addresses")
+  void findAllAddresses_shouldReturn200AndPersonAddresses() {
+    // given
+    AddressResponse firstAddress = new AddressResponse(1L, "12345-123", "City", "Street", 10, true);
+    AddressResponse secondAddress = new AddressResponse(2L, "12345-456", "City", "Avenue", 20, false);
+    given(reactivePersonService.findAllByPersonId(1L)).willReturn(Flux.just(firstAddress, secondAddress));
+
+    // when
+    // then
+    webTestClient.get().uri("/people/1/addresses")
+        .exchange()
+        .expectStatus().isOk()
+        .expectBodyList(AddressResponse.class).isEqualTo(List.of(firstAddress, secondAddress));
+  }
+
+  @Test
+  @DisplayName("GET /people/{personId}/addresses should return 404 when person does not exist")
+  void findAllAddresses_shouldReturn404_whenPersonDoesNotExist() {
+    // given
+    given(reactivePersonService.findAllByPersonId(1L)).willReturn(Flux.error(new PersonNotFoundException(1L)));
+
+    // when
+    // then
+    webTestClient.get().uri("/people/1/addresses")
+        .exchange()
+        .expectStatus().isNotFound()
+        .expectBody()
+        .jsonPath("$.message").isEqualTo("Could not find person 1");
+  }
+}
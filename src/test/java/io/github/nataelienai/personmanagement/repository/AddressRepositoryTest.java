@@ -1,6 +1,7 @@
 package io.github.nataelienai.personmanagement.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -10,6 +11,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import io.github.nataelienai.personmanagement.entity.Address;
 import io.github.nataelienai.personmanagement.entity.Person;
@@ -22,6 +25,9 @@ class AddressRepositoryTest {
   @Autowired
   AddressRepository addressRepository;
 
+  @Autowired
+  TestEntityManager entityManager;
+
   @Test
   @DisplayName("save() should save an address")
   void save_shouldSaveOneAddress() {
@@ -107,4 +113,60 @@ class AddressRepositoryTest {
         .usingRecursiveComparison()
         .isEqualTo(savedAddresses);
   }
+
+  @Test
+  @DisplayName("setMainAddress() should set only the given address as main in one statement")
+  void setMainAddress_shouldSetOnlyTheGivenAddressAsMain() {
+    // given
+    Person person = new Person("John Doe", LocalDate.parse("2001-01-01"));
+    Person savedPerson = personRepository.save(person);
+
+    List<Address> savedAddresses = addressRepository.saveAll(List.of(
+        new Address("12325-123", "City", "Street", 10, false, savedPerson),
+        new Address("12325-124", "City", "Street 2", 10, true, savedPerson),
+        new Address("12325-125", "City", "Street 3", 10, false, savedPerson)));
+    Long addressId = savedAddresses.get(0).getId();
+    entityManager.flush();
+
+    // when
+    int updatedCount = addressRepository.setMainAddress(savedPerson.getId(), addressId);
+    entityManager.clear();
+
+    // then
+    assertThat(updatedCount).isEqualTo(3);
+    assertThat(addressRepository.findAll())
+        .allMatch(address -> address.getMain() == address.getId().equals(addressId));
+  }
+
+  @Test
+  @DisplayName("setMainAddress() should update nothing when the address belongs to another person")
+  void setMainAddress_shouldUpdateNothing_whenAddressBelongsToAnotherPerson() {
+    // given
+    Person savedPerson = personRepository.save(new Person("John Doe", LocalDate.parse("2001-01-01")));
+    Person otherPerson = personRepository.save(new Person("Jane Doe", LocalDate.parse("2001-01-02")));
+
+    addressRepository.save(new Address("12325-123", "City", "Street", 10, true, savedPerson));
+    Address otherAddress = addressRepository.save(new Address("12325-124", "City", "Street 2", 10, false, otherPerson));
+    entityManager.flush();
+
+    // when
+    int updatedCount = addressRepository.setMainAddress(savedPerson.getId(), otherAddress.getId());
+
+    // then
+    assertThat(updatedCount).isZero();
+  }
+
+  @Test
+  @DisplayName("save() should fail when a person would have two main addresses")
+  void save_shouldFail_whenPersonWouldHaveTwoMainAddresses() {
+    // given
+    Person savedPerson = personRepository.save(new Person("John Doe", LocalDate.parse("2001-01-01")));
+    addressRepository.save(new Address("12325-123", "City", "Street", 10, true, savedPerson));
+
+    // when
+    // then
+    assertThatThrownBy(() -> addressRepository.saveAndFlush(
+        new Address("12325-124", "City", "Street 2", 10, true, savedPerson)))
+        .isInstanceOf(DataIntegrityViolationException.class);
+  }
 }
@@ -0,0 +1,156 @@
+package io.github.nataelienai.personmanagement.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.nataelienai.personmanagement.dto.AddressRequest;
+import io.github.nataelienai.personmanagement.dto.PersonRequest;
+import io.github.nataelienai.personmanagement.entity.Address;
+import io.github.nataelienai.personmanagement.entity.Person;
+import io.github.nataelienai.personmanagement.service.AddressService;
+import io.github.nataelienai.personmanagement.service.PersonService;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ PersonService.class, AddressService.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PersonRepositoryCacheTest {
+  @Autowired
+  PersonRepository personRepository;
+
+  @Autowired
+  AddressRepository addressRepository;
+
+  @Autowired
+  PersonService personService;
+
+  @Autowired
+  AddressService addressService;
+
+  @Autowired
+  EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  PlatformTransactionManager transactionManager;
+
+  Statistics statistics;
+
+  Long personId;
+
+  @BeforeEach
+  void setUp() {
+    Person savedPerson = personRepository.save(new Person("John Doe", LocalDate.parse("2001-01-01")));
+    addressRepository.save(new Address("12325-123", "City", "Street", 10, true, savedPerson));
+    personId = savedPerson.getId();
+
+    entityManagerFactory.getCache().evictAll();
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @AfterEach
+  void tearDown() {
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> personRepository.findAll()
+        .forEach(person -> person.setMainAddress(null)));
+    addressRepository.deleteAllInBatch();
+    personRepository.deleteAllInBatch();
+  }
+
+  @Test
+  @DisplayName("findById() should be served from the second-level cache in a new session")
+  void findById_shouldBeServedFromSecondLevelCache_inNewSession() {
+    // given
+    loadInNewSession(Person.class, personId);
+    statistics.clear();
+
+    // when
+    Person person = loadInNewSession(Person.class, personId);
+
+    // then
+    assertThat(person.getName()).isEqualTo("John Doe");
+    assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("findWithAddressesById() should be served from the query and second-level caches in a new session")
+  void findWithAddressesById_shouldBeServedFromCaches_inNewSession() {
+    // given
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setReadOnly(true);
+    transactionTemplate.executeWithoutResult(status -> personRepository.findWithAddressesById(personId)
+        .orElseThrow().getAddresses().size());
+    statistics.clear();
+
+    // when
+    Integer addressCount = transactionTemplate.execute(status -> personRepository.findWithAddressesById(personId)
+        .orElseThrow().getAddresses().size());
+
+    // then
+    assertThat(addressCount).isEqualTo(1);
+    assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("create() should increment the person version seen by new sessions when the transaction commits")
+  void create_shouldIncrementPersonVersionSeenByNewSessions_whenTransactionCommits() {
+    // given
+    Long version = loadInNewSession(Person.class, personId).getVersion();
+
+    // when
+    addressService.create(personId, new AddressRequest("12325-124", "City", "Street 2", 20));
+
+    // then
+    assertThat(loadInNewSession(Person.class, personId).getVersion()).isEqualTo(version + 1);
+  }
+
+  @Test
+  @DisplayName("writes to a person should keep other people in the second-level cache")
+  void writesToPerson_shouldKeepOtherPeopleInSecondLevelCache() {
+    // given
+    Long otherPersonId = personRepository.save(new Person("Jane Doe", LocalDate.parse("2002-02-02"))).getId();
+    loadInNewSession(Person.class, otherPersonId);
+
+    // when
+    Long addressId = addressService.create(personId, new AddressRequest("12325-124", "City", "Street 2", 20)).getId();
+    addressService.createAll(personId, List.of(new AddressRequest("12325-125", "City", "Street 3", 30)));
+    addressService.setPersonAddressAsMain(personId, addressId);
+    personService.update(personId, null, new PersonRequest("John Smith", "2001-01-01"));
+    statistics.clear();
+    Person otherPerson = loadInNewSession(Person.class, otherPersonId);
+
+    // then
+    assertThat(otherPerson.getName()).isEqualTo("Jane Doe");
+    assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+  }
+
+  <T> T loadInNewSession(Class<T> entityClass, Long id) {
+    EntityManager entityManager = entityManagerFactory.createEntityManager();
+
+    try {
+      return entityManager.find(entityClass, id);
+    } finally {
+      entityManager.close();
+    }
+  }
+}
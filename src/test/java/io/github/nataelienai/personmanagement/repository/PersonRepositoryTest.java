@@ -3,19 +3,28 @@ package io.github.nataelienai.personmanagement.repository;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 
 import io.github.nataelienai.personmanagement.entity.Address;
 import io.github.nataelienai.personmanagement.entity.Person;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class PersonRepositoryTest {
   @Autowired
   PersonRepository personRepository;
@@ -23,6 +32,12 @@ class PersonRepositoryTest {
   @Autowired
   AddressRepository addressRepository;
 
+  @Autowired
+  TestEntityManager entityManager;
+
+  @Autowired
+  EntityManagerFactory entityManagerFactory;
+
   @Test
   @DisplayName("save() should save a person")
   void save_shouldSaveOnePerson() {
@@ -147,4 +162,297 @@ class PersonRepositoryTest {
         .usingRecursiveComparison()
         .isEqualTo(savedPeople);
   }
+
+  @Test
+  @DisplayName("findByIdGreaterThanOrderByIdAsc() should retrieve people after the given id up to the page size")
+  void findByIdGreaterThanOrderByIdAsc_shouldRetrievePeopleAfterIdUpToPageSize() {
+    // given
+    List<Person> people = List.of(
+        new Person("John Doe", LocalDate.parse("2001-01-01")),
+        new Person("Jane Doe", LocalDate.parse("2001-01-02")),
+        new Person("Peter Doe", LocalDate.parse("2001-01-03")),
+        new Person("Mary Doe", LocalDate.parse("2001-01-04")));
+    List<Person> savedPeople = personRepository.saveAll(people);
+    Long firstId = savedPeople.get(0).getId();
+
+    // when
+    List<Person> foundPeople = personRepository.findByIdGreaterThanOrderByIdAsc(firstId, PageRequest.of(0, 2));
+
+    // then
+    assertThat(foundPeople)
+        .usingRecursiveComparison()
+        .isEqualTo(savedPeople.subList(1, 3));
+  }
+
+  @Test
+  @DisplayName("findByIdGreaterThanOrderByIdAsc() should load a page of people and their addresses in two statements")
+  void findByIdGreaterThanOrderByIdAsc_shouldLoadPeopleAndAddressesInTwoStatements() {
+    // given
+    savePeopleWithAddresses(10);
+    Statistics statistics = clearPersistenceContextAndStatistics();
+
+    // when
+    List<Person> foundPeople = personRepository.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, 10));
+    foundPeople.forEach(person -> person.getAddresses().size());
+
+    // then
+    assertThat(foundPeople).hasSize(10);
+    assertThat(foundPeople).allMatch(person -> person.getAddresses().size() == 2);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("findSummariesByIdGreaterThan() should retrieve people and their main address in one statement without loading entities")
+  void findSummariesByIdGreaterThan_shouldRetrievePeopleAndMainAddressInOneStatementWithoutLoadingEntities() {
+    // given
+    List<Person> savedPeople = savePeopleWithAddresses(2);
+    Person personWithoutAddress = personRepository.save(new Person("Other", LocalDate.parse("2001-01-01")));
+    Statistics statistics = clearPersistenceContextAndStatistics();
+
+    // when
+    List<PersonSummaryView> summaries = personRepository.findSummariesByIdGreaterThan(0L, PageRequest.of(0, 10));
+
+    // then
+    assertThat(summaries).extracting(PersonSummaryView::getId)
+        .containsExactly(savedPeople.get(0).getId(), savedPeople.get(1).getId(), personWithoutAddress.getId());
+    assertThat(summaries.get(0).getMainAddressCep()).isEqualTo("12325-123");
+    assertThat(summaries.get(0).getMainAddressStreet()).isEqualTo("Street");
+    assertThat(summaries.get(2).getMainAddressId()).isNull();
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(statistics.getEntityLoadCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("findSummaryById() should retrieve a person and their main address in one statement without loading entities")
+  void findSummaryById_shouldRetrievePersonAndMainAddressInOneStatementWithoutLoadingEntities() {
+    // given
+    Person savedPerson = savePeopleWithAddresses(1).get(0);
+    Long mainAddressId = savedPerson.getMainAddress().getId();
+    Statistics statistics = clearPersistenceContextAndStatistics();
+
+    // when
+    Optional<PersonSummaryView> optionalSummary = personRepository.findSummaryById(savedPerson.getId());
+
+    // then
+    assertThat(optionalSummary).isPresent();
+    assertThat(optionalSummary.get().getMainAddressId()).isEqualTo(mainAddressId);
+    assertThat(optionalSummary.get().getMainAddressCep()).isEqualTo("12325-123");
+    assertThat(optionalSummary.get().getVersion()).isEqualTo(savedPerson.getVersion());
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(statistics.getEntityLoadCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("findWithAddressesById() should load a person and their addresses in one statement")
+  void findWithAddressesById_shouldLoadPersonAndAddressesInOneStatement() {
+    // given
+    Long personId = savePeopleWithAddresses(1).get(0).getId();
+    Statistics statistics = clearPersistenceContextAndStatistics();
+
+    // when
+    Optional<Person> optionalPerson = personRepository.findWithAddressesById(personId);
+
+    // then
+    assertThat(optionalPerson).isPresent();
+    assertThat(optionalPerson.get().getAddresses()).hasSize(2);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("saveAndFlush() should update a modified person, normalize their name and increment their version")
+  void saveAndFlush_shouldUpdateModifiedPersonAndIncrementVersion() {
+    // given
+    Person savedPerson = personRepository.save(new Person("John Doe", LocalDate.parse("2001-01-01")));
+    Long version = savedPerson.getVersion();
+    clearPersistenceContextAndStatistics();
+
+    Person person = personRepository.findById(savedPerson.getId()).orElseThrow();
+    person.setName("Jane Doe");
+    person.setDateOfBirth(LocalDate.parse("2002-02-02"));
+
+    // when
+    personRepository.saveAndFlush(person);
+    entityManager.clear();
+
+    // then
+    Person updatedPerson = entityManager.find(Person.class, savedPerson.getId());
+    assertThat(updatedPerson.getName()).isEqualTo("Jane Doe");
+    assertThat(updatedPerson.getNormalizedName()).isEqualTo("jane doe");
+    assertThat(updatedPerson.getDateOfBirth()).isEqualTo(LocalDate.parse("2002-02-02"));
+    assertThat(updatedPerson.getVersion()).isEqualTo(version + 1);
+  }
+
+  @Test
+  @DisplayName("findAllOrderByIdAsc() should retrieve people whose name starts with the given prefix ignoring case")
+  void findAllOrderByIdAsc_shouldRetrievePeopleWhoseNameStartsWithPrefixIgnoringCase() {
+    // given
+    List<Person> savedPeople = personRepository.saveAll(List.of(
+        new Person("John Doe", LocalDate.parse("2001-01-01")),
+        new Person("Jane Doe", LocalDate.parse("2001-01-02")),
+        new Person("JOHNNY Cash", LocalDate.parse("2001-01-03")),
+        new Person("Jo_hn Smith", LocalDate.parse("2001-01-04"))));
+    entityManager.flush();
+
+    // when
+    List<Person> foundPeople = personRepository.findAllOrderByIdAsc(PersonSpecifications.nameStartsWith("joh"), 10);
+    List<Person> escapedPeople = personRepository.findAllOrderByIdAsc(PersonSpecifications.nameStartsWith("jo_"), 10);
+
+    // then
+    assertThat(foundPeople).containsExactly(savedPeople.get(0), savedPeople.get(2));
+    assertThat(escapedPeople).containsExactly(savedPeople.get(3));
+  }
+
+  @Test
+  @DisplayName("findAllOrderByIdAsc() should retrieve people born within the given range after the given id")
+  void findAllOrderByIdAsc_shouldRetrievePeopleBornWithinRangeAfterId() {
+    // given
+    List<Person> savedPeople = personRepository.saveAll(List.of(
+        new Person("John Doe", LocalDate.parse("2001-01-01")),
+        new Person("Jane Doe", LocalDate.parse("2001-01-02")),
+        new Person("Peter Doe", LocalDate.parse("2001-01-03")),
+        new Person("Mary Doe", LocalDate.parse("2001-01-04"))));
+    entityManager.flush();
+    Specification<Person> specification = PersonSpecifications.bornOnOrAfter(LocalDate.parse("2001-01-01"))
+        .and(PersonSpecifications.bornOnOrBefore(LocalDate.parse("2001-01-03")))
+        .and(PersonSpecifications.idGreaterThan(savedPeople.get(0).getId()));
+
+    // when
+    List<Person> foundPeople = personRepository.findAllOrderByIdAsc(specification, 10);
+
+    // then
+    assertThat(foundPeople).containsExactly(savedPeople.get(1), savedPeople.get(2));
+  }
+
+  @Test
+  @DisplayName("findAllOrderByIdAsc() should retrieve each person once when several of their addresses match")
+  void findAllOrderByIdAsc_shouldRetrieveEachPersonOnce_whenSeveralAddressesMatch() {
+    // given
+    List<Person> savedPeople = savePeopleWithAddresses(3);
+    Person otherPerson = personRepository.save(new Person("Other", LocalDate.parse("2001-01-01")));
+    addressRepository.save(new Address("99999-999", "Other City", "Street", 10, true, otherPerson));
+    clearPersistenceContextAndStatistics();
+
+    // when
+    List<Person> peopleInCity = personRepository.findAllOrderByIdAsc(PersonSpecifications.hasAddress("City", null), 2);
+    List<Person> peopleInCep = personRepository.findAllOrderByIdAsc(PersonSpecifications.hasAddress("Other City", "99999-999"), 10);
+
+    // then
+    assertThat(peopleInCity).containsExactly(savedPeople.get(0), savedPeople.get(1));
+    assertThat(peopleInCep).containsExactly(otherPerson);
+  }
+
+  @Test
+  @DisplayName("findAllByIdIn() should retrieve the people with the given ids without loading their addresses")
+  void findAllByIdIn_shouldRetrievePeopleWithGivenIdsWithoutLoadingAddresses() {
+    // given
+    List<Person> savedPeople = savePeopleWithAddresses(2);
+    Statistics statistics = clearPersistenceContextAndStatistics();
+
+    // when
+    List<Person> foundPeople = personRepository.findAllByIdIn(List.of(savedPeople.get(1).getId(), Long.MAX_VALUE));
+
+    // then
+    assertThat(foundPeople).containsExactly(savedPeople.get(1));
+    assertThat(Hibernate.isInitialized(foundPeople.get(0).getAddresses())).isFalse();
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("findAllWithAddressesByIdIn() should retrieve the people with the given ids and their addresses in a single query")
+  void findAllWithAddressesByIdIn_shouldRetrievePeopleWithGivenIdsAndAddressesInSingleQuery() {
+    // given
+    List<Person> savedPeople = savePeopleWithAddresses(3);
+    Statistics statistics = clearPersistenceContextAndStatistics();
+
+    // when
+    List<Person> foundPeople = personRepository.findAllWithAddressesByIdIn(
+        List.of(savedPeople.get(2).getId(), savedPeople.get(0).getId(), Long.MAX_VALUE));
+    int addressesCount = foundPeople.stream().mapToInt(person -> person.getAddresses().size()).sum();
+
+    // then
+    assertThat(foundPeople).containsExactlyInAnyOrder(savedPeople.get(0), savedPeople.get(2));
+    assertThat(addressesCount).isEqualTo(4);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("findByCepNumberInAndIdGreaterThan() should load a page of the people at any of the given CEPs and their addresses in two statements")
+  void findByCepNumberInAndIdGreaterThan_shouldLoadPageOfPeopleAtGivenCepsAndAddressesInTwoStatements() {
+    // given
+    List<Person> savedPeople = savePeopleWithAddresses(3);
+    Person otherPerson = personRepository.save(new Person("Other", LocalDate.parse("2001-01-01")));
+    addressRepository.save(new Address("99999-999", "Other City", "Street", 10, true, otherPerson));
+    Statistics statistics = clearPersistenceContextAndStatistics();
+
+    // when
+    List<Person> foundPeople = personRepository.findByCepNumberInAndIdGreaterThan(List.of(12325124, 99999999),
+        savedPeople.get(0).getId(), PageRequest.of(0, 2));
+    int addressesCount = foundPeople.stream().mapToInt(person -> person.getAddresses().size()).sum();
+
+    // then
+    assertThat(foundPeople).containsExactly(savedPeople.get(1), savedPeople.get(2));
+    assertThat(addressesCount).isEqualTo(4);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("save() should store the CEP of an address as a number")
+  void save_shouldStoreCepOfAddressAsNumber() {
+    // given
+    Person person = personRepository.save(new Person("John Doe", LocalDate.parse("2001-01-01")));
+
+    // when
+    Address savedAddress = addressRepository.saveAndFlush(new Address("01310-100", "City", "Street", 10, true, person));
+
+    // then
+    assertThat(savedAddress.getCepNumber()).isEqualTo(1310100);
+  }
+
+  @Test
+  @DisplayName("search indexes should be used for name prefix and city filters")
+  void searchIndexes_shouldBeUsedForNamePrefixAndCityFilters() {
+    // given
+    String namePlan = explain("select id from person where normalized_name like 'jo%'");
+    String cityPlan = explain("select person_id from address where city = 'City'");
+    String dateOfBirthPlan = explain("select id from person where date_of_birth >= date '2001-01-01'");
+    String cepPlan = explain("select person_id from address where cep_number = 12325123");
+
+    // when
+    // then
+    assertThat(namePlan).containsIgnoringCase("idx_person_normalized_name");
+    assertThat(cityPlan).containsIgnoringCase("idx_address_city");
+    assertThat(dateOfBirthPlan).containsIgnoringCase("idx_person_date_of_birth");
+    assertThat(cepPlan).containsIgnoringCase("idx_address_cep_number");
+  }
+
+  String explain(String sql) {
+    return entityManager.getEntityManager()
+        .createNativeQuery("explain " + sql)
+        .getSingleResult()
+        .toString();
+  }
+
+  List<Person> savePeopleWithAddresses(int count) {
+    List<Person> savedPeople = new ArrayList<>();
+
+    for (int i = 0; i < count; i++) {
+      Person savedPerson = personRepository.save(new Person("Person " + i, LocalDate.parse("2001-01-01")));
+      Address mainAddress = addressRepository.save(new Address("12325-123", "City", "Street", 10, true, savedPerson));
+      addressRepository.save(new Address("12325-124", "City", "Street 2", 20, false, savedPerson));
+      savedPerson.setMainAddress(mainAddress);
+      savedPeople.add(savedPerson);
+    }
+
+    return savedPeople;
+  }
+
+  Statistics clearPersistenceContextAndStatistics() {
+    entityManager.flush();
+    entityManager.clear();
+
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    return statistics;
+  }
 }
@@ -0,0 +1,102 @@
+package io.github.nataelienai.personmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import io.github.nataelienai.personmanagement.dto.AddressRequest;
+import io.github.nataelienai.personmanagement.dto.AddressResponse;
+import io.github.nataelienai.personmanagement.entity.Address;
+import io.github.nataelienai.personmanagement.entity.Person;
+import io.github.nataelienai.personmanagement.repository.AddressRepository;
+import io.github.nataelienai.personmanagement.repository.PersonRepository;
+import io.github.nataelienai.personmanagement.repository.PersonSummaryView;
+
+@DataJpaTest
+@Import(AddressService.class)
+class AddressServiceIntegrationTest {
+  @Autowired
+  AddressService addressService;
+
+  @Autowired
+  PersonRepository personRepository;
+
+  @Autowired
+  AddressRepository addressRepository;
+
+  @Autowired
+  TestEntityManager entityManager;
+
+  Long personId;
+  Long mainAddressId;
+
+  @BeforeEach
+  void setUp() {
+    Person person = personRepository.save(new Person("John Doe", LocalDate.parse("2001-01-01")));
+    Address mainAddress = addressRepository.save(new Address("12325-123", "City", "Street", 10, true, person));
+    person.setMainAddress(mainAddress);
+    entityManager.flush();
+    entityManager.clear();
+
+    personId = person.getId();
+    mainAddressId = mainAddress.getId();
+  }
+
+  @Test
+  @DisplayName("createAll() should add addresses to a person who already has a main address")
+  void createAll_shouldAddAddresses_whenPersonAlreadyHasMainAddress() {
+    // given
+    List<AddressRequest> addressRequests = List.of(
+        new AddressRequest("12325-124", "City", "Street 2", 20),
+        new AddressRequest("12325-125", "City", "Street 3", 30));
+
+    // when
+    addressService.createAll(personId, addressRequests);
+    entityManager.flush();
+    entityManager.clear();
+
+    // then
+    assertThat(addressService.findAllByPersonId(personId).getAddresses())
+        .hasSize(3)
+        .filteredOn(AddressResponse::getMain)
+        .extracting(AddressResponse::getId)
+        .containsExactly(mainAddressId);
+  }
+
+  @Test
+  @DisplayName("setPersonAddressAsMain() should move the main address of a person who already has one")
+  void setPersonAddressAsMain_shouldMoveMainAddress_whenPersonAlreadyHasOne() {
+    // given
+    List<AddressResponse> createdAddresses = addressService.createAll(personId, List.of(
+        new AddressRequest("12325-124", "City", "Street 2", 20),
+        new AddressRequest("12325-125", "City", "Street 3", 30)));
+    Long newMainAddressId = createdAddresses.get(1).getId();
+    entityManager.flush();
+    entityManager.clear();
+
+    // when
+    addressService.setPersonAddressAsMain(personId, newMainAddressId);
+    entityManager.flush();
+    entityManager.clear();
+
+    // then
+    assertThat(addressService.findAllByPersonId(personId).getAddresses())
+        .hasSize(3)
+        .filteredOn(AddressResponse::getMain)
+        .extracting(AddressResponse::getId)
+        .containsExactly(newMainAddressId);
+    assertThat(personRepository.findSummaryById(personId))
+        .get()
+        .extracting(PersonSummaryView::getMainAddressId)
+        .isEqualTo(newMainAddressId);
+  }
+}
@@ -12,7 +12,9 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,6 +27,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import io.github.nataelienai.personmanagement.dto.AddressRequest;
 import io.github.nataelienai.personmanagement.dto.AddressResponse;
+import io.github.nataelienai.personmanagement.dto.VersionedAddressesResult;
 import io.github.nataelienai.personmanagement.entity.Address;
 import io.github.nataelienai.personmanagement.entity.Person;
 import io.github.nataelienai.personmanagement.exception.AddressNotFoundException;
@@ -44,12 +47,15 @@ class AddressServiceTest {
   @Mock
   PersonRepository personRepository;
 
+  @Mock
+  EntityManager entityManager;
+
   @Captor
-  ArgumentCaptor<Set<Address>> addressesCaptor;
+  ArgumentCaptor<List<Address>> addressListCaptor;
 
   @BeforeEach
   void setUp() {
-    addressService = new AddressService(addressRepository, personRepository);
+    addressService = new AddressService(addressRepository, personRepository, entityManager);
   }
 
   @Test
@@ -82,6 +88,8 @@ class AddressServiceTest {
     AddressResponse addressResponse = addressService.create(personId, addressRequest);
 
     // then
+    then(entityManager).should().lock(person, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+
     ArgumentCaptor<Address> addressArgumentCaptor = ArgumentCaptor.forClass(Address.class);
     then(addressRepository).should().save(addressArgumentCaptor.capture());
     Address capturedAddress = addressArgumentCaptor.getValue();
@@ -95,12 +103,57 @@ class AddressServiceTest {
     assertThat(addressResponse.getMain()).isFalse();
   }
 
+  @Test
+  @DisplayName("createAll() should throw when person id does not exist")
+  void createAll_shouldThrow_whenPersonIdDoesNotExist() {
+    // given
+    Long personId = 1L;
+    List<AddressRequest> addressRequests = List.of(new AddressRequest("12345-123", "City", "Street", 10));
+
+    given(personRepository.findById(personId)).willReturn(Optional.empty());
+
+    // when
+    // then
+    assertThatThrownBy(() -> addressService.createAll(personId, addressRequests))
+        .isInstanceOf(PersonNotFoundException.class);
+
+    then(addressRepository).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("createAll() should save all addresses at once when given valid address requests")
+  void createAll_shouldSaveAllAddressesAtOnce_whenGivenValidAddressRequests() {
+    // given
+    Person person = createPerson();
+    Long personId = person.getId();
+    List<AddressRequest> addressRequests = List.of(
+        new AddressRequest("12345-123", "City", "Street", 10),
+        new AddressRequest("12345-124", "City 2", "Street 2", 20));
+
+    given(personRepository.findById(personId)).willReturn(Optional.of(person));
+    given(addressRepository.saveAll(anyIterable())).will(returnsFirstArg());
+
+    // when
+    List<AddressResponse> addressResponses = addressService.createAll(personId, addressRequests);
+
+    // then
+    then(addressRepository).should().saveAll(addressListCaptor.capture());
+    assertThat(addressListCaptor.getValue()).allMatch(address -> address.getPerson() == person);
+    then(entityManager).should().lock(person, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+
+    assertThat(addressResponses)
+        .usingRecursiveComparison()
+        .ignoringFields("id", "main")
+        .isEqualTo(addressRequests);
+    assertThat(addressResponses).allMatch(addressResponse -> !addressResponse.getMain());
+  }
+
   @Test
   @DisplayName("findAllByPersonId() should throw when person id does not exist")
   void findAllByPersonId_shouldThrow_whenPersonIdDoesNotExist() {
     // given
     Long personId = 1L;
-    given(personRepository.findById(personId)).willReturn(Optional.empty());
+    given(personRepository.findWithAddressesById(personId)).willReturn(Optional.empty());
 
     // when
     // then
@@ -109,19 +162,22 @@ class AddressServiceTest {
   }
 
   @Test
-  @DisplayName("findAllByPersonId() should retrieve a person's addresses when their id exists")
-  void findAllByPersonId_shouldRetrievePersonAddresses_whenTheirIdExists() {
+  @DisplayName("findAllByPersonId() should retrieve a person's addresses and version when their id exists")
+  void findAllByPersonId_shouldRetrievePersonAddressesAndVersion_whenTheirIdExists() {
     // given
     Person person = createPerson();
+    person.setVersion(2L);
     Long personId = person.getId();
     Address address = createAddress(1L, person);
 
-    given(personRepository.findById(personId)).willReturn(Optional.of(person));
+    given(personRepository.findWithAddressesById(personId)).willReturn(Optional.of(person));
 
     // when
-    List<AddressResponse> addressResponses = addressService.findAllByPersonId(personId);
+    VersionedAddressesResult versionedAddresses = addressService.findAllByPersonId(personId);
 
     // then
+    assertThat(versionedAddresses.getVersion()).isEqualTo(2L);
+    List<AddressResponse> addressResponses = versionedAddresses.getAddresses();
     assertThat(addressResponses).isNotEmpty();
     assertThat(addressResponses.get(0))
         .usingRecursiveComparison()
@@ -134,12 +190,15 @@ class AddressServiceTest {
   void setPersonAddressAsMain_shouldThrow_whenPersonIdDoesNotExist() {
     // given
     Long personId = 1L;
+    Long addressId = 1L;
     given(personRepository.findById(personId)).willReturn(Optional.empty());
 
     // when
     // then
-    assertThatThrownBy(() -> addressService.setPersonAddressAsMain(personId, 1L))
+    assertThatThrownBy(() -> addressService.setPersonAddressAsMain(personId, addressId))
         .isInstanceOf(PersonNotFoundException.class);
+
+    then(addressRepository).shouldHaveNoInteractions();
   }
 
   @Test
@@ -148,52 +207,62 @@ class AddressServiceTest {
     // given
     Person person = createPerson();
     Long personId = person.getId();
+    Long addressId = 1L;
     given(personRepository.findById(personId)).willReturn(Optional.of(person));
+    given(addressRepository.setMainAddress(personId, addressId)).willReturn(0);
 
     // when
     // then
-    assertThatThrownBy(() -> addressService.setPersonAddressAsMain(personId, 1L))
+    assertThatThrownBy(() -> addressService.setPersonAddressAsMain(personId, addressId))
         .isInstanceOf(AddressNotFoundException.class);
+
+    assertThat(person.getMainAddress()).isNull();
   }
 
   @Test
   @DisplayName("setPersonAddressAsMain() should set address as main when person and address ids exist")
   void setPersonAddressAsMain_shouldSetAddressAsMain_whenPersonAndAddressIdsExist() {
     // given
-    Long addressId = 1L;
     Person person = createPerson();
-    createAddress(addressId, person);
-    createAddress(addressId + 1, person);
     Long personId = person.getId();
-
+    person.setMainAddress(createAddress(1L, person));
+    Address address = createAddress(2L, person);
+    Long addressId = address.getId();
     given(personRepository.findById(personId)).willReturn(Optional.of(person));
-    given(addressRepository.saveAll(anyIterable())).willReturn(List.of());
+    given(addressRepository.setMainAddress(personId, addressId)).willReturn(2);
+    given(addressRepository.getReferenceById(addressId)).willReturn(address);
 
     // when
     addressService.setPersonAddressAsMain(personId, addressId);
 
     // then
-    then(addressRepository).should().saveAll(addressesCaptor.capture());
-    Set<Address> capturedAddresses = addressesCaptor.getValue();
+    then(addressRepository).should().setMainAddress(personId, addressId);
+    assertThat(person.getMainAddress()).isEqualTo(address);
+    then(entityManager).shouldHaveNoInteractions();
+  }
 
-    assertThat(capturedAddresses).hasSize(2);
-    assertThat(capturedAddresses)
-        .usingRecursiveComparison()
-        .ignoringCollectionOrder()
-        .ignoringFields("main")
-        .isEqualTo(person.getAddresses());
-
-    for (Address address : capturedAddresses) {
-      if (addressId == address.getId()) {
-        assertThat(address.getMain()).isTrue();
-      } else {
-        assertThat(address.getMain()).isFalse();
-      }
-    }
+  @Test
+  @DisplayName("setPersonAddressAsMain() should force a version increment when the address already is the main one")
+  void setPersonAddressAsMain_shouldForceVersionIncrement_whenAddressAlreadyIsMain() {
+    // given
+    Person person = createPerson();
+    Long personId = person.getId();
+    Address address = createAddress(1L, person);
+    person.setMainAddress(address);
+    Long addressId = address.getId();
+    given(personRepository.findById(personId)).willReturn(Optional.of(person));
+    given(addressRepository.setMainAddress(personId, addressId)).willReturn(1);
+
+    // when
+    addressService.setPersonAddressAsMain(personId, addressId);
+
+    // then
+    assertThat(person.getMainAddress()).isEqualTo(address);
+    then(entityManager).should().lock(person, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
   }
 
   Address createAddress(Long id, Person person) {
-    Address address = new Address(id, "12345-123", "City", "Street", 10, false, person);
+    Address address = new Address(id, "12345-123", 12345123, "City", "Street", 10, false, person);
     person.getAddresses().add(address);
 
     return address;
@@ -0,0 +1,78 @@
+package io.github.nataelienai.personmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.github.nataelienai.personmanagement.dto.PersonSuggestionResponse;
+import io.github.nataelienai.personmanagement.repository.PersonNameView;
+import io.github.nataelienai.personmanagement.repository.PersonRepository;
+
+@ExtendWith(MockitoExtension.class)
+class PersonAutocompleteServiceTest {
+  PersonAutocompleteService personAutocompleteService;
+
+  @Mock
+  PersonRepository personRepository;
+
+  @BeforeEach
+  void setUp() {
+    personAutocompleteService = new PersonAutocompleteService(personRepository);
+  }
+
+  @Test
+  @DisplayName("load() should index the names of all people")
+  void load_shouldIndexNamesOfAllPeople() {
+    // given
+    given(personRepository.streamAllNames()).willReturn(Stream.of(
+        createPersonNameView(1L, "John Doe"),
+        createPersonNameView(2L, "Jane Doe")));
+
+    // when
+    personAutocompleteService.load();
+
+    // then
+    assertThat(personAutocompleteService.autocomplete("doe", 10)).containsExactly(
+        new PersonSuggestionResponse(1L, "John Doe"),
+        new PersonSuggestionResponse(2L, "Jane Doe"));
+  }
+
+  @Test
+  @DisplayName("onPersonNameChanged() should index new and updated names")
+  void onPersonNameChanged_shouldIndexNewAndUpdatedNames() {
+    // given
+    given(personRepository.streamAllNames()).willReturn(Stream.of(createPersonNameView(1L, "John Doe")));
+    personAutocompleteService.load();
+
+    // when
+    personAutocompleteService.onPersonNameChanged(new PersonNameChangedEvent(1L, "Johnny Doe"));
+    personAutocompleteService.onPersonNameChanged(new PersonNameChangedEvent(2L, "Jane Doe"));
+
+    // then
+    assertThat(personAutocompleteService.autocomplete("j", 10)).containsExactly(
+        new PersonSuggestionResponse(1L, "Johnny Doe"),
+        new PersonSuggestionResponse(2L, "Jane Doe"));
+  }
+
+  PersonNameView createPersonNameView(Long id, String name) {
+    return new PersonNameView() {
+      @Override
+      public Long getId() {
+        return id;
+      }
+
+      @Override
+      public String getName() {
+        return name;
+      }
+    };
+  }
+}
@@ -0,0 +1,122 @@
+package io.github.nataelienai.personmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.nataelienai.personmanagement.dto.AddressResponse;
+import io.github.nataelienai.personmanagement.dto.PersonResponse;
+import io.github.nataelienai.personmanagement.entity.Address;
+import io.github.nataelienai.personmanagement.entity.Person;
+import io.github.nataelienai.personmanagement.repository.PersonRepository;
+
+@ExtendWith(MockitoExtension.class)
+class PersonExportServiceTest {
+  ObjectMapper objectMapper = new ObjectMapper();
+
+  PersonExportService personExportService;
+
+  @Mock
+  PersonRepository personRepository;
+
+  @Mock
+  EntityManager entityManager;
+
+  @Mock
+  Session session;
+
+  @BeforeEach
+  void setUp() {
+    personExportService = new PersonExportService(personRepository, entityManager, objectMapper);
+    given(entityManager.unwrap(Session.class)).willReturn(session);
+  }
+
+  @Test
+  @DisplayName("exportAll() should write one JSON line per person")
+  void exportAll_shouldWriteOneJsonLinePerPerson() throws Exception {
+    // given
+    Person person = createPerson(1L);
+    Address address = new Address(1L, "12345-123", 12345123, "City", "Street", 10, true, person);
+    person.setAddresses(Set.of(address));
+    Person otherPerson = createPerson(2L);
+
+    given(personRepository.streamAllByOrderByIdAsc()).willReturn(Stream.of(person, otherPerson));
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // when
+    personExportService.exportAll(outputStream);
+
+    // then
+    String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+    assertThat(lines).hasSize(2);
+    assertThat(objectMapper.readValue(lines[0], PersonResponse.class))
+        .isEqualTo(new PersonResponse(1L, "Person 1", "2000-01-01",
+            List.of(new AddressResponse(1L, "12345-123", "City", "Street", 10, true))));
+    assertThat(objectMapper.readValue(lines[1], PersonResponse.class))
+        .isEqualTo(new PersonResponse(2L, "Person 2", "2000-01-01", List.of()));
+  }
+
+  @Test
+  @DisplayName("exportAll() should bypass the second-level cache")
+  void exportAll_shouldBypassSecondLevelCache() throws Exception {
+    // given
+    given(personRepository.streamAllByOrderByIdAsc()).willReturn(Stream.of(createPerson(1L)));
+
+    // when
+    personExportService.exportAll(new ByteArrayOutputStream());
+
+    // then
+    then(session).should().setCacheMode(CacheMode.IGNORE);
+  }
+
+  @Test
+  @DisplayName("exportAll() should clear the persistence context every few thousand people")
+  void exportAll_shouldClearPersistenceContextEveryFewThousandPeople() throws Exception {
+    // given
+    List<Person> people = IntStream.rangeClosed(1, 10000)
+        .mapToObj(id -> createPerson((long) id))
+        .collect(Collectors.toList());
+
+    given(personRepository.streamAllByOrderByIdAsc()).willReturn(people.stream());
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // when
+    personExportService.exportAll(outputStream);
+
+    // then
+    assertThat(outputStream.toString(StandardCharsets.UTF_8).split("\n")).hasSize(10000);
+    then(entityManager).should(times(2)).clear();
+  }
+
+  Person createPerson(Long id) {
+    Person person = new Person("Person " + id, LocalDate.parse("2000-01-01"));
+    person.setId(id);
+
+    return person;
+  }
+}
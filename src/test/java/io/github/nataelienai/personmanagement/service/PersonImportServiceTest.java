@@ -0,0 +1,213 @@
+package io.github.nataelienai.personmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.EntityManager;
+import javax.validation.Validation;
+import javax.validation.Validator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.nataelienai.personmanagement.config.BulkImportProperties;
+import io.github.nataelienai.personmanagement.dto.PersonImportResponse;
+import io.github.nataelienai.personmanagement.dto.PersonImportResult;
+import io.github.nataelienai.personmanagement.dto.PersonImportStatus;
+import io.github.nataelienai.personmanagement.dto.PersonRequest;
+import io.github.nataelienai.personmanagement.entity.Person;
+import io.github.nataelienai.personmanagement.repository.PersonRepository;
+
+@ExtendWith(MockitoExtension.class)
+class PersonImportServiceTest {
+  Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+  PersonImportService personImportService;
+
+  @Mock
+  PersonRepository personRepository;
+
+  @Mock
+  EntityManager entityManager;
+
+  @Mock
+  ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  PlatformTransactionManager transactionManager;
+
+  @Mock
+  TransactionStatus transactionStatus;
+
+  @Captor
+  ArgumentCaptor<List<Person>> peopleCaptor;
+
+  long nextId;
+
+  @BeforeEach
+  void setUp() {
+    BulkImportProperties bulkImportProperties = new BulkImportProperties();
+    bulkImportProperties.setChunkSize(2);
+
+    personImportService = new PersonImportService(personRepository, entityManager, validator, bulkImportProperties,
+        eventPublisher, new TransactionTemplate(transactionManager));
+    nextId = 1;
+  }
+
+  @Test
+  @DisplayName("importAll() should save valid people in chunks and report the result of each record")
+  void importAll_shouldSaveValidPeopleInChunksAndReportEachResult() {
+    // given
+    List<PersonRequest> personRequests = List.of(
+        new PersonRequest("John Doe", "2000-01-01"),
+        new PersonRequest("Jane Doe", "2000-01-02"),
+        new PersonRequest("Peter Doe", "2000-01-03"));
+
+    given(transactionManager.getTransaction(any())).willReturn(transactionStatus);
+    given(personRepository.saveAll(anyList())).will(invocation -> assignIds(invocation.getArgument(0)));
+
+    // when
+    PersonImportResponse personImportResponse = personImportService.importAll(personRequests.iterator());
+
+    // then
+    InOrder inOrder = inOrder(transactionManager, personRepository, entityManager);
+    for (int i = 0; i < 2; i++) {
+      inOrder.verify(transactionManager).getTransaction(any());
+      inOrder.verify(personRepository).saveAll(peopleCaptor.capture());
+      inOrder.verify(entityManager).flush();
+      inOrder.verify(entityManager).clear();
+      inOrder.verify(transactionManager).commit(transactionStatus);
+    }
+    assertThat(peopleCaptor.getAllValues().get(0)).hasSize(2);
+    assertThat(peopleCaptor.getAllValues().get(1)).hasSize(1);
+
+    assertThat(personImportResponse.getCreatedCount()).isEqualTo(3);
+    assertThat(personImportResponse.getInvalidCount()).isZero();
+    assertThat(personImportResponse.getFailedCount()).isZero();
+    assertThat(personImportResponse.getResults()).containsExactly(
+        new PersonImportResult(0, PersonImportStatus.CREATED, 1L, null),
+        new PersonImportResult(1, PersonImportStatus.CREATED, 2L, null),
+        new PersonImportResult(2, PersonImportStatus.CREATED, 3L, null));
+  }
+
+  @Test
+  @DisplayName("importAll() should report invalid records without saving them")
+  void importAll_shouldReportInvalidRecordsWithoutSavingThem() {
+    // given
+    List<PersonRequest> personRequests = new ArrayList<>();
+    personRequests.add(new PersonRequest(null, "2000-01-01"));
+    personRequests.add(new PersonRequest("John Doe", "2000-01-01"));
+    personRequests.add(new PersonRequest("Jane Doe", "2000-99-01"));
+    personRequests.add(null);
+
+    given(personRepository.saveAll(anyList())).will(invocation -> assignIds(invocation.getArgument(0)));
+
+    // when
+    PersonImportResponse personImportResponse = personImportService.importAll(personRequests.iterator());
+
+    // then
+    then(personRepository).should().saveAll(peopleCaptor.capture());
+    assertThat(peopleCaptor.getValue()).extracting(Person::getName).containsExactly("John Doe");
+
+    assertThat(personImportResponse.getCreatedCount()).isEqualTo(1);
+    assertThat(personImportResponse.getInvalidCount()).isEqualTo(3);
+    assertThat(personImportResponse.getResults()).containsExactly(
+        new PersonImportResult(0, PersonImportStatus.INVALID, null, Map.of("name", "Name is required")),
+        new PersonImportResult(1, PersonImportStatus.CREATED, 1L, null),
+        new PersonImportResult(2, PersonImportStatus.INVALID, null,
+            Map.of("dateOfBirth", "Date of birth has an invalid format, a valid format would be yyyy-MM-dd")),
+        new PersonImportResult(3, PersonImportStatus.INVALID, null, Map.of("person", "Person is required")));
+  }
+
+  @Test
+  @DisplayName("importAll() should roll back a failed chunk, report its records as failed and keep importing")
+  void importAll_shouldRollBackFailedChunkAndKeepImporting() {
+    // given
+    List<PersonRequest> personRequests = List.of(
+        new PersonRequest("John Doe", "2000-01-01"),
+        new PersonRequest("Jane Doe", "2000-01-02"),
+        new PersonRequest("Peter Doe", "2000-01-03"));
+
+    given(transactionManager.getTransaction(any())).willReturn(transactionStatus);
+    given(personRepository.saveAll(anyList()))
+        .willThrow(new DataIntegrityViolationException("Duplicate key"))
+        .will(invocation -> assignIds(invocation.getArgument(0)));
+
+    // when
+    PersonImportResponse personImportResponse = personImportService.importAll(personRequests.iterator());
+
+    // then
+    then(transactionManager).should().rollback(transactionStatus);
+    then(transactionManager).should().commit(transactionStatus);
+    then(eventPublisher).should().publishEvent(new PersonNameChangedEvent(1L, "Peter Doe"));
+    then(eventPublisher).shouldHaveNoMoreInteractions();
+
+    assertThat(personImportResponse.getCreatedCount()).isEqualTo(1);
+    assertThat(personImportResponse.getInvalidCount()).isZero();
+    assertThat(personImportResponse.getFailedCount()).isEqualTo(2);
+    assertThat(personImportResponse.getResults()).containsExactly(
+        new PersonImportResult(0, PersonImportStatus.FAILED, null, null),
+        new PersonImportResult(1, PersonImportStatus.FAILED, null, null),
+        new PersonImportResult(2, PersonImportStatus.CREATED, 1L, null));
+  }
+
+  @Test
+  @DisplayName("importAll() should keep the saved chunks and report a record that is not valid JSON as failed")
+  void importAll_shouldKeepSavedChunksAndReportUnreadableRecordAsFailed() throws Exception {
+    // given
+    String personRequestsNdjson = "{\"name\": \"John Doe\", \"dateOfBirth\": \"2000-01-01\"}\n"
+        + "{\"name\": \"Jane Doe\", \"dateOfBirth\": \"2000-01-02\"}\n"
+        + "{\"name\": \"Peter Doe\", \"dateOfBirth\": \"2000-01-03\"}\n"
+        + "{\"name\": \"Mary Doe\"\n"
+        + "{\"name\": \"Paul Doe\", \"dateOfBirth\": \"2000-01-05\"}\n";
+    MappingIterator<PersonRequest> personRequests = new ObjectMapper().readerFor(PersonRequest.class)
+        .readValues(personRequestsNdjson);
+
+    given(transactionManager.getTransaction(any())).willReturn(transactionStatus);
+    given(personRepository.saveAll(anyList())).will(invocation -> assignIds(invocation.getArgument(0)));
+
+    // when
+    PersonImportResponse personImportResponse = personImportService.importAll(personRequests);
+
+    // then
+    then(transactionManager).should(times(2)).commit(transactionStatus);
+
+    assertThat(personImportResponse.getCreatedCount()).isEqualTo(3);
+    assertThat(personImportResponse.getInvalidCount()).isZero();
+    assertThat(personImportResponse.getFailedCount()).isEqualTo(1);
+    assertThat(personImportResponse.getResults()).containsExactly(
+        new PersonImportResult(0, PersonImportStatus.CREATED, 1L, null),
+        new PersonImportResult(1, PersonImportStatus.CREATED, 2L, null),
+        new PersonImportResult(2, PersonImportStatus.CREATED, 3L, null),
+        new PersonImportResult(3, PersonImportStatus.FAILED, null, Map.of("record", "Record has an invalid JSON format")));
+  }
+
+  List<Person> assignIds(List<Person> people) {
+    people.forEach(person -> person.setId(nextId++));
+    return people;
+  }
+}
@@ -0,0 +1,107 @@
+package io.github.nataelienai.personmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.nataelienai.personmanagement.dto.PersonSuggestionResponse;
+
+class PersonNameIndexTest {
+  PersonNameIndex personNameIndex;
+
+  @BeforeEach
+  void setUp() {
+    personNameIndex = new PersonNameIndex();
+    personNameIndex.put(1L, "João da Silva");
+    personNameIndex.put(2L, "Maria Silveira");
+    personNameIndex.put(3L, "Ana Maria Souza");
+    personNameIndex.put(4L, "Kendrick Lamar");
+  }
+
+  @Test
+  @DisplayName("search() should find names containing the query ignoring case and accents")
+  void search_shouldFindNamesContainingQueryIgnoringCaseAndAccents() {
+    // given
+    // when
+    List<PersonSuggestionResponse> silSuggestions = personNameIndex.search("SIL", 10);
+    List<PersonSuggestionResponse> joaoSuggestions = personNameIndex.search("joao da", 10);
+
+    // then
+    assertThat(silSuggestions).containsExactly(
+        new PersonSuggestionResponse(1L, "João da Silva"),
+        new PersonSuggestionResponse(2L, "Maria Silveira"));
+    assertThat(joaoSuggestions).containsExactly(new PersonSuggestionResponse(1L, "João da Silva"));
+  }
+
+  @Test
+  @DisplayName("search() should not find names that only contain every trigram of the query")
+  void search_shouldNotFindNames_whenTheyOnlyContainEveryTrigramOfQuery() {
+    // given
+    personNameIndex.put(5L, "abcd bcde");
+
+    // when
+    List<PersonSuggestionResponse> suggestions = personNameIndex.search("abcde", 10);
+
+    // then
+    assertThat(suggestions).isEmpty();
+  }
+
+  @Test
+  @DisplayName("search() should find names with a word starting with a one or two character query")
+  void search_shouldFindNamesWithWordStartingWithShortQuery() {
+    // given
+    // when
+    List<PersonSuggestionResponse> mSuggestions = personNameIndex.search("m", 10);
+    List<PersonSuggestionResponse> laSuggestions = personNameIndex.search("La", 10);
+
+    // then
+    assertThat(mSuggestions).extracting(PersonSuggestionResponse::getId).containsExactly(2L, 3L);
+    assertThat(laSuggestions).extracting(PersonSuggestionResponse::getId).containsExactly(4L);
+  }
+
+  @Test
+  @DisplayName("search() should return at most the given limit of suggestions")
+  void search_shouldReturnAtMostTheLimit() {
+    // given
+    // when
+    List<PersonSuggestionResponse> suggestions = personNameIndex.search("a", 1);
+
+    // then
+    assertThat(suggestions).extracting(PersonSuggestionResponse::getId).containsExactly(3L);
+  }
+
+  @Test
+  @DisplayName("put() should replace the previous name of a person")
+  void put_shouldReplacePreviousName() {
+    // given
+    // when
+    personNameIndex.put(4L, "Kendrick Duckworth");
+
+    // then
+    assertThat(personNameIndex.search("lamar", 10)).isEmpty();
+    assertThat(personNameIndex.search("duck", 10)).containsExactly(new PersonSuggestionResponse(4L, "Kendrick Duckworth"));
+    assertThat(personNameIndex.size()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("put() should keep search results correct after compacting replaced names")
+  void put_shouldKeepSearchResultsCorrect_afterCompactingReplacedNames() {
+    // given
+    for (int i = 0; i < 5000; i++) {
+      personNameIndex.put(100L + (i % 10), "Person " + i);
+    }
+
+    // when
+    List<PersonSuggestionResponse> suggestions = personNameIndex.search("person 499", 20);
+
+    // then
+    assertThat(suggestions).extracting(PersonSuggestionResponse::getName)
+        .containsExactlyInAnyOrder("Person 4990", "Person 4991", "Person 4992", "Person 4993", "Person 4994",
+            "Person 4995", "Person 4996", "Person 4997", "Person 4998", "Person 4999");
+    assertThat(personNameIndex.size()).isEqualTo(14);
+  }
+}
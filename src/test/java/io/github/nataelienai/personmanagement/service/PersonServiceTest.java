@@ -4,14 +4,19 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,14 +24,34 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import io.github.nataelienai.personmanagement.dto.AddressResponse;
+import io.github.nataelienai.personmanagement.dto.PeopleByCepPageResponse;
+import io.github.nataelienai.personmanagement.dto.PeopleByCepResponse;
+import io.github.nataelienai.personmanagement.dto.PersonFields;
+import io.github.nataelienai.personmanagement.dto.PersonLookupResult;
+import io.github.nataelienai.personmanagement.dto.PersonLookupStatus;
+import io.github.nataelienai.personmanagement.dto.PersonPageResponse;
 import io.github.nataelienai.personmanagement.dto.PersonRequest;
 import io.github.nataelienai.personmanagement.dto.PersonResponse;
+import io.github.nataelienai.personmanagement.dto.PersonSearchRequest;
+import io.github.nataelienai.personmanagement.dto.PersonSummaryPageResponse;
+import io.github.nataelienai.personmanagement.dto.PersonSummaryResponse;
+import io.github.nataelienai.personmanagement.dto.VersionedPersonResult;
+import io.github.nataelienai.personmanagement.dto.VersionedPersonSummaryResult;
+import io.github.nataelienai.personmanagement.dto.mapper.PersonMapper;
 import io.github.nataelienai.personmanagement.entity.Address;
 import io.github.nataelienai.personmanagement.entity.Person;
 import io.github.nataelienai.personmanagement.exception.DateOfBirthParseException;
+import io.github.nataelienai.personmanagement.exception.InvalidCursorException;
+import io.github.nataelienai.personmanagement.exception.MissingSearchFilterException;
 import io.github.nataelienai.personmanagement.exception.PersonNotFoundException;
+import io.github.nataelienai.personmanagement.exception.PersonVersionMismatchException;
 import io.github.nataelienai.personmanagement.repository.PersonRepository;
+import io.github.nataelienai.personmanagement.repository.PersonSummaryView;
 
 @ExtendWith(MockitoExtension.class)
 class PersonServiceTest {
@@ -37,9 +62,12 @@ class PersonServiceTest {
   @Mock
   PersonRepository personRepository;
 
+  @Mock
+  ApplicationEventPublisher eventPublisher;
+
   @BeforeEach
   void setUp() {
-    personService = new PersonService(personRepository);
+    personService = new PersonService(personRepository, eventPublisher);
   }
 
   @Test
@@ -70,27 +98,283 @@ class PersonServiceTest {
     assertThat(personResponse.getName()).isEqualTo(personRequest.getName());
     assertThat(personResponse.getDateOfBirth()).isEqualTo(personRequest.getDateOfBirth());
     assertThat(personResponse.getAddresses()).isEmpty();
+    then(eventPublisher).should().publishEvent(new PersonNameChangedEvent(null, "john doe"));
   }
 
   @Test
-  @DisplayName("findAll() should retrieve all people")
-  void findAll_shouldRetrieveAllPeople() {
+  @DisplayName("findAll() should retrieve the first page of people when not given a cursor")
+  void findAll_shouldRetrieveFirstPageOfPeople_whenNotGivenCursor() {
     // given
     Person person = createPersonWithAddress();
     String dateOfBirth = person.getDateOfBirth().format(DATE_FORMATTER);
 
-    given(personRepository.findAll()).willReturn(List.of(person));
+    given(personRepository.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, 21))).willReturn(List.of(person));
 
     // when
-    List<PersonResponse> personResponses = personService.findAll();
+    PersonPageResponse personPageResponse = personService.findAll(null, 20, PersonFields.ALL);
 
     // then
-    assertThat(personResponses).isNotEmpty();
+    List<PersonResponse> personResponses = personPageResponse.getContent();
+    assertThat(personResponses).hasSize(1);
     assertThat(personResponses.get(0))
         .usingRecursiveComparison()
         .ignoringFields("dateOfBirth")
         .isEqualTo(person);
     assertThat(personResponses.get(0).getDateOfBirth()).isEqualTo(dateOfBirth);
+    assertThat(personPageResponse.getNextCursor()).isNull();
+  }
+
+  @Test
+  @DisplayName("findAllSummaries() should return a page of person summaries and a cursor to the next page")
+  void findAllSummaries_shouldReturnPageOfPersonSummariesAndNextCursor() {
+    // given
+    PersonSummaryView summary = new PersonSummaryView(1L, "John Doe", LocalDate.parse("2000-01-01"),
+        1L, "12345-123", "City", "Street", 10, 0L);
+    PersonSummaryView nextSummary = new PersonSummaryView(2L, "Jane Doe", LocalDate.parse("2000-01-02"),
+        null, null, null, null, null, 0L);
+
+    given(personRepository.findSummariesByIdGreaterThan(0L, PageRequest.of(0, 2)))
+        .willReturn(List.of(summary, nextSummary));
+
+    // when
+    PersonSummaryPageResponse summaryPageResponse = personService.findAllSummaries(null, 1);
+
+    // then
+    assertThat(summaryPageResponse.getContent()).containsExactly(new PersonSummaryResponse(1L, "John Doe",
+        "2000-01-01", new AddressResponse(1L, "12345-123", "City", "Street", 10, true)));
+    assertThat(summaryPageResponse.getNextCursor()).isNotNull();
+    then(personRepository).should(never()).findByIdGreaterThanOrderByIdAsc(any(), any());
+  }
+
+  @Test
+  @DisplayName("findAllSummaries() should return summaries without main address when people have none")
+  void findAllSummaries_shouldReturnSummariesWithoutMainAddress_whenPeopleHaveNone() {
+    // given
+    PersonSummaryView summary = new PersonSummaryView(2L, "Jane Doe", LocalDate.parse("2000-01-02"),
+        null, null, null, null, null, 0L);
+
+    given(personRepository.findSummariesByIdGreaterThan(0L, PageRequest.of(0, 21))).willReturn(List.of(summary));
+
+    // when
+    PersonSummaryPageResponse summaryPageResponse = personService.findAllSummaries(null, 20);
+
+    // then
+    assertThat(summaryPageResponse.getContent())
+        .containsExactly(new PersonSummaryResponse(2L, "Jane Doe", "2000-01-02", null));
+    assertThat(summaryPageResponse.getNextCursor()).isNull();
+  }
+
+  @Test
+  @DisplayName("findAll() should return a cursor to the next page when there are more people than the limit")
+  void findAll_shouldReturnNextCursor_whenThereAreMorePeopleThanTheLimit() {
+    // given
+    Person person = createPersonWithAddress();
+    Person nextPerson = createPersonWithAddress();
+    nextPerson.setId(2L);
+
+    given(personRepository.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, 2)))
+        .willReturn(List.of(person, nextPerson));
+
+    // when
+    PersonPageResponse personPageResponse = personService.findAll(null, 1, PersonFields.ALL);
+
+    // then
+    assertThat(personPageResponse.getContent()).hasSize(1);
+    assertThat(personPageResponse.getContent().get(0).getId()).isEqualTo(person.getId());
+    assertThat(personPageResponse.getNextCursor()).isNotNull();
+
+    personService.findAll(personPageResponse.getNextCursor(), 1, PersonFields.ALL);
+    then(personRepository).should().findByIdGreaterThanOrderByIdAsc(eq(person.getId()), any());
+  }
+
+  @Test
+  @DisplayName("findAll() should throw when given an invalid cursor")
+  void findAll_shouldThrow_whenGivenInvalidCursor() {
+    // given
+    String cursor = "not a cursor";
+
+    // when
+    // then
+    assertThatThrownBy(() -> personService.findAll(cursor, 20, PersonFields.ALL))
+        .isInstanceOf(InvalidCursorException.class);
+
+    then(personRepository).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("search() should throw when not given any filter")
+  void search_shouldThrow_whenNotGivenAnyFilter() {
+    // given
+    PersonSearchRequest searchRequest = new PersonSearchRequest(" ", null, null, "", null);
+
+    // when
+    // then
+    assertThatThrownBy(() -> personService.search(searchRequest, null, 20, PersonFields.ALL))
+        .isInstanceOf(MissingSearchFilterException.class);
+
+    then(personRepository).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("search() should return a page of matching people and a cursor to the next page")
+  void search_shouldReturnPageOfMatchingPeopleAndNextCursor() {
+    // given
+    PersonSearchRequest searchRequest = new PersonSearchRequest("john", null, null, "City", null);
+    Person person = createPersonWithAddress();
+    Person nextPerson = createPersonWithAddress();
+    nextPerson.setId(2L);
+
+    given(personRepository.findAllOrderByIdAsc(any(), eq(2))).willReturn(List.of(person, nextPerson));
+
+    // when
+    PersonPageResponse personPageResponse = personService.search(searchRequest, null, 1, PersonFields.ALL);
+
+    // then
+    assertThat(personPageResponse.getContent()).hasSize(1);
+    assertThat(personPageResponse.getContent().get(0).getId()).isEqualTo(person.getId());
+    assertThat(personPageResponse.getNextCursor()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("search() should throw when given an invalid cursor")
+  void search_shouldThrow_whenGivenInvalidCursor() {
+    // given
+    PersonSearchRequest searchRequest = new PersonSearchRequest("john", null, null, null, null);
+
+    // when
+    // then
+    assertThatThrownBy(() -> personService.search(searchRequest, "not a cursor", 20, PersonFields.ALL))
+        .isInstanceOf(InvalidCursorException.class);
+
+    then(personRepository).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("findAllByCep() should group the people living at each given CEP in the given order")
+  void findAllByCep_shouldGroupPeopleLivingAtEachGivenCepInGivenOrder() {
+    // given
+    Person person = createPersonWithAddress();
+
+    given(personRepository.findByCepNumberInAndIdGreaterThan(List.of(99999999, 12345123), 0L, PageRequest.of(0, 21)))
+        .willReturn(List.of(person));
+
+    // when
+    PeopleByCepPageResponse pageResponse = personService.findAllByCep(List.of("99999-999", "12345-123"), null, 20);
+
+    // then
+    List<PeopleByCepResponse> peopleByCepResponses = pageResponse.getContent();
+    assertThat(peopleByCepResponses).extracting(PeopleByCepResponse::getCep).containsExactly("99999-999", "12345-123");
+    assertThat(peopleByCepResponses.get(0).getPeople()).isEmpty();
+    assertThat(peopleByCepResponses.get(1).getPeople()).extracting(PersonResponse::getId).containsExactly(person.getId());
+    assertThat(pageResponse.getNextCursor()).isNull();
+  }
+
+  @Test
+  @DisplayName("findAllByCep() should return a cursor to the next page when more people live at the given CEPs than the limit")
+  void findAllByCep_shouldReturnNextCursor_whenMorePeopleLiveAtGivenCepsThanTheLimit() {
+    // given
+    Person person = createPersonWithAddress();
+    Person nextPerson = createPersonWithAddress();
+    nextPerson.setId(2L);
+
+    given(personRepository.findByCepNumberInAndIdGreaterThan(List.of(12345123), 0L, PageRequest.of(0, 2)))
+        .willReturn(List.of(person, nextPerson));
+
+    // when
+    PeopleByCepPageResponse pageResponse = personService.findAllByCep(List.of("12345-123"), null, 1);
+
+    // then
+    assertThat(pageResponse.getContent().get(0).getPeople()).extracting(PersonResponse::getId)
+        .containsExactly(person.getId());
+    assertThat(pageResponse.getNextCursor()).isNotNull();
+
+    personService.findAllByCep(List.of("12345-123"), pageResponse.getNextCursor(), 1);
+    then(personRepository).should().findByCepNumberInAndIdGreaterThan(eq(List.of(12345123)), eq(person.getId()), any());
+  }
+
+  @Test
+  @DisplayName("findAllByIds() should retrieve the people with the given ids in the given order and mark unknown ids as not found")
+  void findAllByIds_shouldRetrievePeopleInGivenOrderAndMarkUnknownIdsAsNotFound() {
+    // given
+    Person person = createPersonWithAddress();
+
+    given(personRepository.findAllWithAddressesByIdIn(List.of(2L, 1L))).willReturn(List.of(person));
+
+    // when
+    List<PersonLookupResult> lookupResults = personService.findAllByIds(List.of(2L, 1L, 2L), PersonFields.ALL);
+
+    // then
+    assertThat(lookupResults).extracting(PersonLookupResult::getId).containsExactly(2L, 1L, 2L);
+    assertThat(lookupResults).extracting(PersonLookupResult::getStatus)
+        .containsExactly(PersonLookupStatus.NOT_FOUND, PersonLookupStatus.FOUND, PersonLookupStatus.NOT_FOUND);
+    assertThat(lookupResults.get(0).getPerson()).isNull();
+    assertThat(lookupResults.get(1).getPerson()).isEqualTo(PersonMapper.mapToResponse(person, DATE_FORMATTER));
+  }
+
+  @Test
+  @DisplayName("findAllByIds() should not fetch addresses when they are not requested")
+  void findAllByIds_shouldNotFetchAddresses_whenAddressesAreNotRequested() {
+    // given
+    Person person = createPersonWithAddress();
+
+    given(personRepository.findAllByIdIn(List.of(1L))).willReturn(List.of(person));
+
+    // when
+    List<PersonLookupResult> lookupResults = personService.findAllByIds(List.of(1L), PersonFields.of(List.of("id", "dateOfBirth")));
+
+    // then
+    assertThat(lookupResults).containsExactly(new PersonLookupResult(1L, PersonLookupStatus.FOUND,
+        new PersonResponse(1L, null, "2000-01-01", null)));
+    then(personRepository).should(never()).findAllWithAddressesByIdIn(any());
+  }
+
+  @Test
+  @DisplayName("findAllByIds() should query the given ids in chunks")
+  void findAllByIds_shouldQueryGivenIdsInChunks() {
+    // given
+    List<Long> ids = LongStream.rangeClosed(1, PersonService.IDS_CHUNK_SIZE + 1).boxed().collect(Collectors.toList());
+
+    given(personRepository.findAllWithAddressesByIdIn(any())).willReturn(List.of());
+
+    // when
+    List<PersonLookupResult> lookupResults = personService.findAllByIds(ids, PersonFields.ALL);
+
+    // then
+    assertThat(lookupResults).hasSize(ids.size());
+    then(personRepository).should().findAllWithAddressesByIdIn(ids.subList(0, PersonService.IDS_CHUNK_SIZE));
+    then(personRepository).should().findAllWithAddressesByIdIn(List.of((long) PersonService.IDS_CHUNK_SIZE + 1));
+  }
+
+  @Test
+  @DisplayName("findSummaryById() should throw when person id does not exist")
+  void findSummaryById_shouldThrow_whenPersonIdDoesNotExist() {
+    // given
+    Long id = 1L;
+    given(personRepository.findSummaryById(id)).willReturn(Optional.empty());
+
+    // when
+    // then
+    assertThatThrownBy(() -> personService.findSummaryById(id))
+        .isInstanceOf(PersonNotFoundException.class);
+  }
+
+  @Test
+  @DisplayName("findSummaryById() should retrieve person, their main address and their version when id exists")
+  void findSummaryById_shouldRetrievePersonMainAddressAndVersion_whenIdExists() {
+    // given
+    Long id = 1L;
+    PersonSummaryView summary = new PersonSummaryView(id, "John Doe", LocalDate.parse("2000-01-01"),
+        2L, "12345-123", "City", "Street", 10, 3L);
+    given(personRepository.findSummaryById(id)).willReturn(Optional.of(summary));
+
+    // when
+    VersionedPersonSummaryResult versionedSummary = personService.findSummaryById(id);
+
+    // then
+    assertThat(versionedSummary.getVersion()).isEqualTo(3L);
+    assertThat(versionedSummary.getSummary()).isEqualTo(new PersonSummaryResponse(id, "John Doe", "2000-01-01",
+        new AddressResponse(2L, "12345-123", "City", "Street", 10, true)));
+    then(personRepository).should(never()).findWithAddressesById(id);
   }
 
   @Test
@@ -98,33 +382,53 @@ class PersonServiceTest {
   void findById_shouldThrow_whenPersonIdDoesNotExist() {
     // given
     Long id = 1L;
-    given(personRepository.findById(id)).willReturn(Optional.empty());
+    given(personRepository.findWithAddressesById(id)).willReturn(Optional.empty());
 
     // when
     // then
-    assertThatThrownBy(() -> personService.findById(id))
+    assertThatThrownBy(() -> personService.findById(id, PersonFields.ALL))
         .isInstanceOf(PersonNotFoundException.class);
   }
 
   @Test
-  @DisplayName("findById() should retrieve person when id exists")
-  void findById_shouldRetrievePerson_whenIdExists() {
+  @DisplayName("findById() should retrieve person and their version when id exists")
+  void findById_shouldRetrievePersonAndVersion_whenIdExists() {
     // given
     Person person = createPersonWithAddress();
+    person.setVersion(3L);
     Long id = person.getId();
     String dateOfBirth = person.getDateOfBirth().format(DATE_FORMATTER);
 
-    given(personRepository.findById(id)).willReturn(Optional.of(person));
+    given(personRepository.findWithAddressesById(id)).willReturn(Optional.of(person));
 
     // when
-    PersonResponse personResponse = personService.findById(id);
+    VersionedPersonResult versionedPerson = personService.findById(id, PersonFields.ALL);
 
     // then
-    assertThat(personResponse)
+    assertThat(versionedPerson.getVersion()).isEqualTo(3L);
+    assertThat(versionedPerson.getPerson())
         .usingRecursiveComparison()
         .ignoringFields("dateOfBirth")
         .isEqualTo(person);
-    assertThat(personResponse.getDateOfBirth()).isEqualTo(dateOfBirth);
+    assertThat(versionedPerson.getPerson().getDateOfBirth()).isEqualTo(dateOfBirth);
+  }
+
+  @Test
+  @DisplayName("findById() should retrieve only the given fields without loading addresses when they are not requested")
+  void findById_shouldRetrieveOnlyGivenFieldsWithoutLoadingAddresses_whenAddressesAreNotRequested() {
+    // given
+    Person person = spy(createPersonWithAddress());
+    Long id = person.getId();
+
+    given(personRepository.findById(id)).willReturn(Optional.of(person));
+
+    // when
+    VersionedPersonResult versionedPerson = personService.findById(id, PersonFields.of(List.of("name")));
+
+    // then
+    assertThat(versionedPerson.getPerson()).isEqualTo(new PersonResponse(id, "John Doe", null, null));
+    then(personRepository).should(never()).findWithAddressesById(id);
+    then(person).should(never()).getAddresses();
   }
 
   @Test
@@ -137,47 +441,108 @@ class PersonServiceTest {
 
     // when
     // then
-    assertThatThrownBy(() -> personService.update(id, personRequest))
+    assertThatThrownBy(() -> personService.update(id, null, personRequest))
         .isInstanceOf(PersonNotFoundException.class);
   }
 
   @Test
-  @DisplayName("update() should throw when given an invalid date of birth")
-  void update_shouldThrow_whenGivenInvalidDateOfBirth() {
+  @DisplayName("update() should throw when person id does not exist and a version is given")
+  void update_shouldThrow_whenPersonIdDoesNotExistAndVersionIsGiven() {
+    // given
+    Long id = 1L;
+    PersonRequest personRequest = new PersonRequest("john doe", "2000-01-01");
+    given(personRepository.findById(id)).willReturn(Optional.empty());
+
+    // when
+    // then
+    assertThatThrownBy(() -> personService.update(id, 2L, personRequest))
+        .isInstanceOf(PersonNotFoundException.class);
+  }
+
+  @Test
+  @DisplayName("update() should throw when the given version does not match")
+  void update_shouldThrow_whenGivenVersionDoesNotMatch() {
     // given
-    PersonRequest personRequest = new PersonRequest("john doe", "2000-99-01");
     Person person = createPersonWithAddress();
+    person.setVersion(3L);
     Long id = person.getId();
+    PersonRequest personRequest = new PersonRequest("john doe", "2000-01-01");
+    given(personRepository.findById(id)).willReturn(Optional.of(person));
+
+    // when
+    // then
+    assertThatThrownBy(() -> personService.update(id, 2L, personRequest))
+        .isInstanceOf(PersonVersionMismatchException.class);
 
+    then(personRepository).should(never()).saveAndFlush(any(Person.class));
+    then(eventPublisher).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("update() should throw when the person is modified concurrently")
+  void update_shouldThrow_whenPersonIsModifiedConcurrently() {
+    // given
+    Person person = createPersonWithAddress();
+    person.setVersion(3L);
+    Long id = person.getId();
+    PersonRequest personRequest = new PersonRequest("john doe", "2000-01-01");
     given(personRepository.findById(id)).willReturn(Optional.of(person));
+    given(personRepository.saveAndFlush(person))
+        .willThrow(new ObjectOptimisticLockingFailureException(Person.class, id));
+
+    // when
+    // then
+    assertThatThrownBy(() -> personService.update(id, 3L, personRequest))
+        .isInstanceOf(PersonVersionMismatchException.class);
+
+    then(eventPublisher).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("update() should throw when given an invalid date of birth")
+  void update_shouldThrow_whenGivenInvalidDateOfBirth() {
+    // given
+    PersonRequest personRequest = new PersonRequest("john doe", "2000-99-01");
+    Long id = 1L;
 
     // when
     // then
-    assertThatThrownBy(() -> personService.update(id, personRequest))
+    assertThatThrownBy(() -> personService.update(id, null, personRequest))
         .isInstanceOf(DateOfBirthParseException.class);
+
+    then(personRepository).shouldHaveNoInteractions();
   }
 
   @Test
-  @DisplayName("update() should update person when given an existent id and a valid person request")
-  void update_shouldUpdatePerson_whenGivenExistentIdAndValidPersonRequest() {
+  @DisplayName("update() should update the managed person when given an existent id and a valid person request")
+  void update_shouldUpdateManagedPerson_whenGivenExistentIdAndValidPersonRequest() {
     // given
     PersonRequest personRequest = new PersonRequest("new john doe", "2001-02-02");
     Person person = createPersonWithAddress();
+    person.setVersion(3L);
     Long id = person.getId();
 
     given(personRepository.findById(id)).willReturn(Optional.of(person));
-    given(personRepository.save(any(Person.class))).will(returnsFirstArg());
+    given(personRepository.saveAndFlush(person)).will(invocation -> {
+      person.setVersion(4L);
+      return person;
+    });
 
     // when
-    PersonResponse personResponse = personService.update(id, personRequest);
+    VersionedPersonResult versionedPerson = personService.update(id, 3L, personRequest);
 
     // then
-    assertThat(personResponse)
+    assertThat(person.getName()).isEqualTo(personRequest.getName());
+    assertThat(person.getDateOfBirth()).isEqualTo(LocalDate.parse(personRequest.getDateOfBirth()));
+    assertThat(versionedPerson.getVersion()).isEqualTo(4L);
+    assertThat(versionedPerson.getPerson())
         .usingRecursiveComparison()
         .ignoringFields("name", "dateOfBirth")
         .isEqualTo(person);
-    assertThat(personResponse.getName()).isEqualTo(personRequest.getName());
-    assertThat(personResponse.getDateOfBirth()).isEqualTo(personRequest.getDateOfBirth());
+    assertThat(versionedPerson.getPerson().getName()).isEqualTo(personRequest.getName());
+    assertThat(versionedPerson.getPerson().getDateOfBirth()).isEqualTo(personRequest.getDateOfBirth());
+    then(personRepository).should(never()).findWithAddressesById(id);
+    then(eventPublisher).should().publishEvent(new PersonNameChangedEvent(id, "new john doe"));
   }
 
   Person createPersonWithAddress() {
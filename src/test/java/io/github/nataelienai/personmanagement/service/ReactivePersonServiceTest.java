@@ -0,0 +1,130 @@
+package io.github.nataelienai.personmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.github.nataelienai.personmanagement.dto.AddressResponse;
+import io.github.nataelienai.personmanagement.dto.PersonPageResponse;
+import io.github.nataelienai.personmanagement.dto.PersonResponse;
+import io.github.nataelienai.personmanagement.entity.Address;
+import io.github.nataelienai.personmanagement.entity.Person;
+import io.github.nataelienai.personmanagement.exception.InvalidCursorException;
+import io.github.nataelienai.personmanagement.exception.PersonNotFoundException;
+import io.github.nataelienai.personmanagement.repository.ReactivePersonRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ReactivePersonServiceTest {
+  @Mock
+  ReactivePersonRepository reactivePersonRepository;
+
+  ReactivePersonService reactivePersonService;
+
+  @BeforeEach
+  void setUp() {
+    reactivePersonService = new ReactivePersonService(reactivePersonRepository);
+  }
+
+  @Test
+  @DisplayName("findAll should return a page of people and the cursor of the next page")
+  void findAll_shouldReturnPageOfPeopleAndNextCursor() {
+    // given
+    Person firstPerson = createPerson(1L, "John Doe", LocalDate.of(2000, 1, 1));
+    Person secondPerson = createPerson(2L, "Jane Doe", LocalDate.of(2001, 1, 1));
+    given(reactivePersonRepository.findAllWithAddresses(0L, 2)).willReturn(Flux.just(firstPerson, secondPerson));
+
+    // when
+    // then
+    StepVerifier.create(reactivePersonService.findAll(null, 1))
+        .expectNext(new PersonPageResponse(List.of(new PersonResponse(1L, "John Doe", "2000-01-01", List.of())), "MQ"))
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("findAll should resume after the person encoded in the cursor")
+  void findAll_shouldResumeAfterPersonEncodedInCursor() {
+    // given
+    Person secondPerson = createPerson(2L, "Jane Doe", LocalDate.of(2001, 1, 1));
+    given(reactivePersonRepository.findAllWithAddresses(1L, 2)).willReturn(Flux.just(secondPerson));
+
+    // when
+    // then
+    StepVerifier.create(reactivePersonService.findAll("MQ", 1))
+        .expectNext(new PersonPageResponse(List.of(new PersonResponse(2L, "Jane Doe", "2001-01-01", List.of())), null))
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("findAll should signal InvalidCursorException when given an invalid cursor")
+  void findAll_shouldSignalInvalidCursorException_whenGivenInvalidCursor() {
+    // when
+    // then
+    StepVerifier.create(reactivePersonService.findAll("!", 1))
+        .expectError(InvalidCursorException.class)
+        .verify();
+  }
+
+  @Test
+  @DisplayName("findById should return the person with their addresses")
+  void findById_shouldReturnPersonWithTheirAddresses() {
+    // given
+    Person person = createPerson(1L, "John Doe", LocalDate.of(2000, 1, 1));
+    person.getAddresses().add(new Address(1L, "12345-123", 12345123, "City", "Street", 10, true, person));
+    given(reactivePersonRepository.findWithAddressesById(1L)).willReturn(Mono.just(person));
+
+    // when
+    // then
+    StepVerifier.create(reactivePersonService.findById(1L))
+        .expectNext(new PersonResponse(1L, "John Doe", "2000-01-01",
+            List.of(new AddressResponse(1L, "12345-123", "City", "Street", 10, true))))
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("findById should signal PersonNotFoundException when person does not exist")
+  void findById_shouldSignalPersonNotFoundException_whenPersonDoesNotExist() {
+    // given
+    given(reactivePersonRepository.findWithAddressesById(1L)).willReturn(Mono.empty());
+
+    // when
+    // then
+    StepVerifier.create(reactivePersonService.findById(1L))
+        .expectErrorSatisfies(error -> assertThat(error)
+            .isInstanceOf(PersonNotFoundException.class)
+            .hasMessage("Could not find person 1"))
+        .verify();
+  }
+
+  @Test
+  @DisplayName("findAllByPersonId should emit each address of the person")
+  void findAllByPersonId_shouldEmitEachAddressOfPerson() {
+    // given
+    Person person = createPerson(1L, "John Doe", LocalDate.of(2000, 1, 1));
+    person.getAddresses().add(new Address(1L, "12345-123", 12345123, "City", "Street", 10, true, person));
+    given(reactivePersonRepository.findWithAddressesById(1L)).willReturn(Mono.just(person));
+
+    // when
+    // then
+    StepVerifier.create(reactivePersonService.findAllByPersonId(1L))
+        .expectNext(new AddressResponse(1L, "12345-123", "City", "Street", 10, true))
+        .verifyComplete();
+  }
+
+  private static Person createPerson(Long id, String name, LocalDate dateOfBirth) {
+    Person person = new Person(name, dateOfBirth);
+    person.setId(id);
+    return person;
+  }
+}